@@ -0,0 +1,194 @@
+package com.qantas.challenge.admission;
+
+import com.qantas.challenge.config.AdmissionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Admits or sheds requests to the airport query endpoints before they reach a controller.
+ * A request is first charged against its client's token bucket, weighted by its cost class, and rejected with
+ * 429 Too Many Requests if the client is over its rate. It must then obtain a permit for its cost class, and is
+ * rejected with 503 Service Unavailable if that class is already at its concurrency limit, in which case its tokens
+ * are refunded so that server overload never turns into rate limiting of the client. Both rejections are
+ * immediate, never block a worker thread, and carry a Retry-After header. The permit of a streamed response is
+ * held until the response completes.
+ */
+@Slf4j
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final AdmissionProperties properties;
+    private final LongSupplier clock;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<CostClass, Semaphore> permits = new EnumMap<>(CostClass.class);
+    private final Map<CostClass, Counter> admitted = new EnumMap<>(CostClass.class);
+    private final Map<CostClass, Counter> rateLimited = new EnumMap<>(CostClass.class);
+    private final Map<CostClass, Counter> overloaded = new EnumMap<>(CostClass.class);
+    private final AtomicLong lastSweep;
+
+    public AdmissionControlFilter(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    AdmissionControlFilter(AdmissionProperties properties, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.lastSweep = new AtomicLong(clock.getAsLong());
+        for (CostClass costClass : CostClass.values()) {
+            Semaphore semaphore = new Semaphore(properties.limitsFor(costClass).getMaxConcurrent());
+            permits.put(costClass, semaphore);
+            String cost = costClass.name().toLowerCase(Locale.ROOT);
+            admitted.put(costClass, meterRegistry.counter("airport.admission.admitted", "cost", cost));
+            rateLimited.put(costClass, meterRegistry.counter("airport.admission.shed", "cost", cost, "reason", "rate_limited"));
+            overloaded.put(costClass, meterRegistry.counter("airport.admission.shed", "cost", cost, "reason", "overloaded"));
+            meterRegistry.gauge("airport.admission.in_flight", Tags.of("cost", cost), semaphore,
+                    s -> properties.limitsFor(costClass).getMaxConcurrent() - s.availablePermits());
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || CostClass.of(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        CostClass costClass = CostClass.of(request);
+        String clientId = clientId(request);
+        long now = clock.getAsLong();
+
+        TokenBucket bucket = bucketFor(clientId, now);
+        int tokens = properties.limitsFor(costClass).getTokens();
+        long waitNanos = bucket.tryConsume(tokens, now);
+        if (waitNanos > 0) {
+            rateLimited.get(costClass).increment();
+            log.debug("Rate limited {} request from client {}", costClass, clientId);
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, waitNanos);
+            return;
+        }
+
+        Semaphore semaphore = permits.get(costClass);
+        if (!semaphore.tryAcquire()) {
+            // The client is not to blame for the overload, so the request must not count against its rate.
+            bucket.refund(tokens);
+            overloaded.get(costClass).increment();
+            log.debug("Shed {} request from client {}: concurrency limit reached", costClass, clientId);
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, properties.getOverloadRetryAfter().toNanos());
+            return;
+        }
+        boolean releaseOnAsyncCompletion = false;
+        try {
+            admitted.get(costClass).increment();
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new PermitReleasingListener(semaphore));
+                releaseOnAsyncCompletion = true;
+            }
+        } finally {
+            if (!releaseOnAsyncCompletion) {
+                semaphore.release();
+            }
+        }
+    }
+
+    /**
+     * Identifies the client by its remote address, or by the configured client id header when one is set.
+     */
+    private String clientId(HttpServletRequest request) {
+        String headerName = properties.getClientIdHeader();
+        String header = headerName != null && !headerName.isBlank() ? request.getHeader(headerName) : null;
+        return header != null && !header.isBlank() ? header : request.getRemoteAddr();
+    }
+
+    private TokenBucket bucketFor(String clientId, long now) {
+        TokenBucket bucket = buckets.get(clientId);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= properties.getMaxTrackedClients()) {
+            sweepIdleBuckets(now);
+        }
+        return buckets.computeIfAbsent(clientId, id -> new TokenBucket(properties.getTokensPerSecond(), properties.getBurst(), now));
+    }
+
+    /**
+     * Discards buckets that have refilled completely. At most one thread sweeps per interval.
+     */
+    private void sweepIdleBuckets(long now) {
+        long last = lastSweep.get();
+        if (now - last < SWEEP_INTERVAL_NANOS || !lastSweep.compareAndSet(last, now)) {
+            return;
+        }
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, long retryAfterNanos) {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+    }
+
+    /**
+     * Holds the permit of a streamed (asynchronous) response until the response has been completed,
+     * rather than releasing it as soon as the request thread returns.
+     */
+    private static final class PermitReleasingListener implements AsyncListener {
+
+        private final Semaphore semaphore;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        PermitReleasingListener(Semaphore semaphore) {
+            this.semaphore = semaphore;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                semaphore.release();
+            }
+        }
+    }
+}
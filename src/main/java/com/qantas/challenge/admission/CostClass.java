@@ -0,0 +1,90 @@
+package com.qantas.challenge.admission;
+
+import com.qantas.challenge.client.PeerSnapshotClient;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.RequestPath;
+
+/**
+ * Classifies requests to the airport query and snapshot endpoints by how expensive they are to serve.
+ * Each class has its own concurrency limit, so expensive requests cannot starve cheap ones.
+ */
+public enum CostClass {
+
+    /**
+     * An unfiltered query, which serializes the complete airport list.
+     */
+    FULL_LIST,
+
+    /**
+     * A query with at least one filter, which usually returns a small subset.
+     */
+    FILTERED,
+
+    /**
+     * A lookup of a single airport by its code.
+     */
+    LOOKUP,
+
+    /**
+     * A bulk request over many airports, such as a distance matrix or a batch of queries.
+     */
+    BULK,
+
+    /**
+     * A peer pulling the full airport snapshot in cluster mode.
+     */
+    SNAPSHOT;
+
+    static final String AIRPORTS_PATH = "/api/v1/airports";
+
+    private static final String[] BULK_PATHS = {AIRPORTS_PATH + "/distances", AIRPORTS_PATH + "/batch"};
+
+    private static final String[] FILTER_PARAMETERS = {"countryCode", "regionCode", "stateCode", "cityCode", "airportName"};
+
+    /**
+     * Determines the cost class of a request to the airport query or snapshot endpoints.
+     * @param request The incoming request.
+     * @return The cost class, or null if the request does not target these endpoints.
+     */
+    static CostClass of(HttpServletRequest request) {
+        String path = matchedPath(request);
+        if (path.equals(PeerSnapshotClient.SNAPSHOT_PATH)) {
+            return SNAPSHOT;
+        }
+        if (path.equals(AIRPORTS_PATH)) {
+            for (String parameter : FILTER_PARAMETERS) {
+                String value = request.getParameter(parameter);
+                if (value != null && !value.isBlank()) {
+                    return FILTERED;
+                }
+            }
+            return FULL_LIST;
+        }
+        for (String bulkPath : BULK_PATHS) {
+            if (path.equals(bulkPath) && "POST".equals(request.getMethod())) {
+                return BULK;
+            }
+        }
+        if (path.startsWith(AIRPORTS_PATH + "/")) {
+            return LOOKUP;
+        }
+        return null;
+    }
+
+    /**
+     * Reduces the request URI to the path Spring MVC matches handlers against: segments are percent-decoded and
+     * stripped of their semicolon parameters. Empty segments and a trailing slash are dropped as well, so that a
+     * variant of an airport path is never classified more leniently than the path itself.
+     */
+    static String matchedPath(HttpServletRequest request) {
+        PathContainer path = RequestPath.parse(request.getRequestURI(), request.getContextPath()).pathWithinApplication();
+        StringBuilder matched = new StringBuilder();
+        for (PathContainer.Element element : path.elements()) {
+            if (element instanceof PathContainer.PathSegment segment && !segment.valueToMatch().isEmpty()) {
+                matched.append('/').append(segment.valueToMatch());
+            }
+        }
+        return matched.isEmpty() ? "/" : matched.toString();
+    }
+}
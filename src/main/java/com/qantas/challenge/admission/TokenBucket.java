@@ -0,0 +1,65 @@
+package com.qantas.challenge.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket for a single client.
+ * Instead of storing a token count and a refill timestamp, the bucket stores the single instant at which it
+ * will be full again (the generic cell rate algorithm). Taking tokens pushes that instant into the future, and
+ * a request is admitted as long as the instant stays within the burst window. Both values therefore fit into one
+ * {@link AtomicLong} that is updated with a compare-and-set, without any locking.
+ */
+class TokenBucket {
+
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    /**
+     * @param tokensPerSecond The rate at which the bucket refills.
+     * @param burst The maximum number of tokens the bucket holds.
+     * @param now The current time in nanoseconds; a new bucket starts full.
+     */
+    TokenBucket(double tokensPerSecond, int burst, long now) {
+        this.nanosPerToken = (long) (1_000_000_000L / tokensPerSecond);
+        this.burstNanos = nanosPerToken * burst;
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * Attempts to take the given number of tokens from the bucket.
+     * @param tokens The number of tokens the request costs.
+     * @param now The current time in nanoseconds.
+     * @return 0 if the tokens were taken, otherwise the number of nanoseconds until they would be available.
+     */
+    long tryConsume(int tokens, long now) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + tokens * nanosPerToken;
+            long excess = next - now - burstNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Returns tokens taken by a request that was not served after all.
+     * Moving the instant back may place it in the past, which {@link #tryConsume} treats like a full bucket.
+     * @param tokens The number of tokens to return.
+     */
+    void refund(int tokens) {
+        fullAt.addAndGet(-tokens * nanosPerToken);
+    }
+
+    /**
+     * Determines whether the bucket has refilled completely, in which case it is indistinguishable
+     * from a new bucket and can be discarded.
+     */
+    boolean isFull(long now) {
+        return fullAt.get() <= now;
+    }
+}
@@ -0,0 +1,96 @@
+package com.qantas.challenge.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qantas.challenge.config.ClusterProperties;
+import com.qantas.challenge.dto.AirportDto;
+import com.qantas.challenge.service.AirportSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * A client component responsible for pulling the airport snapshot from another replica in cluster mode.
+ * The current snapshot version is sent as an entity tag, so an unchanged snapshot costs a single 304 response.
+ * A changed snapshot is requested gzip-compressed and decompressed here, since the JDK HTTP client used by the
+ * RestTemplate does not do so itself.
+ */
+@Slf4j
+@Component
+public class PeerSnapshotClient {
+
+    public static final String SNAPSHOT_PATH = "/api/v1/internal/airports/snapshot";
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+
+    public PeerSnapshotClient(RestTemplateBuilder restTemplateBuilder, ClusterProperties clusterProperties, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.restTemplate = restTemplateBuilder
+                .connectTimeout(clusterProperties.getTimeout())
+                .readTimeout(clusterProperties.getTimeout())
+                .build();
+    }
+
+    /**
+     * Fetches the snapshot held by the given peer, using the version of the current snapshot for the handshake.
+     * @param peerUrl The base URL of the peer replica.
+     * @param current The snapshot currently held by this replica.
+     * @return The peer's snapshot, the current snapshot if the peer reports it unchanged,
+     *         or null if the peer is unavailable or has no data yet.
+     */
+    public AirportSnapshot fetchSnapshot(String peerUrl, AirportSnapshot current) {
+        String url = peerUrl + SNAPSHOT_PATH;
+        try {
+            log.info("Fetching airport snapshot from peer: {}", url);
+            return restTemplate.execute(url, HttpMethod.GET, request -> {
+                request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+                if (!current.isEmpty()) {
+                    request.getHeaders().setIfNoneMatch(quote(current.getVersion()));
+                }
+            }, response -> readSnapshot(url, response, current));
+        } catch (RestClientException e) {
+            log.warn("Peer snapshot unavailable from {}: {}", url, e.getMessage());
+            return null;
+        }
+    }
+
+    private AirportSnapshot readSnapshot(String url, ClientHttpResponse response, AirportSnapshot current) throws IOException {
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            log.info("Peer snapshot is unchanged at version {}.", current.getVersion());
+            return current;
+        }
+        String etag = response.getHeaders().getETag();
+        InputStream body = response.getBody();
+        if ("gzip".equalsIgnoreCase(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING))) {
+            body = new GZIPInputStream(body);
+        }
+        AirportDto[] airports = objectMapper.readValue(body, AirportDto[].class);
+        if (etag == null || airports == null || airports.length == 0) {
+            log.warn("Received an empty or unversioned snapshot from peer: {}", url);
+            return null;
+        }
+        String version = unquote(etag);
+        log.info("Successfully fetched {} airports from peer at version {}.", airports.length, version);
+        return AirportSnapshot.of(version, Arrays.asList(airports));
+    }
+
+    private static String quote(String version) {
+        return "\"" + version + "\"";
+    }
+
+    private static String unquote(String etag) {
+        String value = etag.startsWith("W/") ? etag.substring(2) : etag;
+        return value.replace("\"", "");
+    }
+}
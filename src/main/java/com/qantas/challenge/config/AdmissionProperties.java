@@ -0,0 +1,90 @@
+package com.qantas.challenge.config;
+
+import com.qantas.challenge.admission.CostClass;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the admission layer in front of the airport query and snapshot endpoints.
+ * Every client draws from its own token bucket, and every cost class has its own concurrency limit.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "airport.admission")
+public class AdmissionProperties {
+
+    /**
+     * Whether admission control is enabled.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The request header identifying the client, e.g. "X-Client-Id". Unset by default, in which case clients are
+     * identified by their remote address; requests without the header are identified that way too. Only configure
+     * a header that is set by a trusted gateway, as clients could otherwise pick a fresh identity per request.
+     */
+    private String clientIdHeader;
+
+    /**
+     * The rate, in tokens per second, at which each client's bucket refills.
+     */
+    private double tokensPerSecond = 20;
+
+    /**
+     * The capacity of each client's bucket, i.e. the largest burst a client can send at once.
+     */
+    private int burst = 40;
+
+    /**
+     * The number of client buckets above which idle buckets are discarded.
+     */
+    private int maxTrackedClients = 10_000;
+
+    /**
+     * The Retry-After value sent when a request is shed because its cost class is at its concurrency limit.
+     */
+    private Duration overloadRetryAfter = Duration.ofSeconds(1);
+
+    private Limits fullList = new Limits(4, 10);
+    private Limits filtered = new Limits(32, 2);
+    private Limits lookup = new Limits(64, 1);
+    private Limits bulk = new Limits(2, 10);
+    private Limits snapshot = new Limits(2, 10);
+
+    /**
+     * Returns the limits configured for the given cost class.
+     */
+    public Limits limitsFor(CostClass costClass) {
+        return switch (costClass) {
+            case FULL_LIST -> fullList;
+            case FILTERED -> filtered;
+            case LOOKUP -> lookup;
+            case BULK -> bulk;
+            case SNAPSHOT -> snapshot;
+        };
+    }
+
+    /**
+     * The limits that apply to a single cost class.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limits {
+
+        /**
+         * The maximum number of requests of this class that are served at the same time.
+         */
+        private int maxConcurrent;
+
+        /**
+         * The number of tokens a request of this class takes from the client's bucket.
+         */
+        private int tokens;
+    }
+}
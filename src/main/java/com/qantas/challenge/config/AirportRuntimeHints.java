@@ -0,0 +1,29 @@
+package com.qantas.challenge.config;
+
+import com.qantas.challenge.dto.AirportDto;
+import com.qantas.challenge.dto.AirportQueryDto;
+import com.qantas.challenge.dto.AirportQueryResultDto;
+import com.qantas.challenge.dto.source.QantasApiAirport;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Registers the reflection hints needed to run as a GraalVM native image.
+ * Spring AOT already covers the types used in controller signatures, but not the types that Jackson
+ * deserializes through the RestTemplate: the external API's DTOs and the airport array pulled from peers.
+ * The batch endpoint streams its results through the ObjectMapper as well, so its query and result types are
+ * registered too.
+ * Nested types such as City or Region are registered transitively.
+ */
+public class AirportRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(),
+                QantasApiAirport.class, QantasApiAirport[].class, AirportDto.class, AirportDto[].class,
+                AirportQueryDto.class, AirportQueryResultDto.class);
+    }
+}
@@ -2,9 +2,13 @@ package com.qantas.challenge.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
+@EnableScheduling
+@ImportRuntimeHints(AirportRuntimeHints.class)
 public class AppConfig {
     @Bean
     public RestTemplate restTemplate() {
@@ -0,0 +1,83 @@
+package com.qantas.challenge.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Configuration for the optional cluster mode, in which replicas share a single airport snapshot.
+ * The leader is elected deterministically as the lowest base URL among this replica and its peers,
+ * so every replica configured with the same member list agrees on it without any coordination.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "airport.cluster")
+public class ClusterProperties {
+
+    /**
+     * Whether cluster mode is enabled. When disabled, every replica fetches from the upstream API.
+     */
+    private boolean enabled = false;
+
+    /**
+     * The base URL under which the other replicas can reach this one (e.g. "http://localhost:8080").
+     */
+    private String selfUrl;
+
+    /**
+     * The base URLs of the other replicas in the cluster.
+     */
+    private List<String> peers = new ArrayList<>();
+
+    /**
+     * The connect and read timeout used when pulling the snapshot from the leader.
+     * Kept short so that an unavailable leader quickly falls back to the upstream API.
+     */
+    private Duration timeout = Duration.ofSeconds(2);
+
+    /**
+     * How long a starting follower keeps retrying the leader, with exponential backoff, before it falls back to the
+     * upstream API. This covers a whole cluster starting at once, while the leader is still loading its own data.
+     */
+    private Duration leaderWait = Duration.ofSeconds(30);
+
+    /**
+     * How often a follower re-checks the leader's snapshot version.
+     */
+    private Duration syncInterval = Duration.ofMinutes(1);
+
+    /**
+     * Returns the base URL of the elected leader, which is the only replica that fetches from the upstream API.
+     * @return The leader's base URL, or null if cluster mode is disabled or not configured.
+     */
+    public String leaderUrl() {
+        if (!enabled || selfUrl == null || selfUrl.isBlank()) {
+            return null;
+        }
+        return Stream.concat(Stream.of(selfUrl), peers.stream())
+                .filter(url -> url != null && !url.isBlank())
+                .map(ClusterProperties::normalize)
+                .sorted()
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Determines whether this replica should pull its snapshot from the leader instead of the upstream API.
+     * @return true if cluster mode is enabled and another replica is the leader.
+     */
+    public boolean isFollower() {
+        String leader = leaderUrl();
+        return leader != null && !leader.equals(normalize(selfUrl));
+    }
+
+    private static String normalize(String url) {
+        String trimmed = url.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+}
@@ -0,0 +1,38 @@
+package com.qantas.challenge.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Configuration for the local reference files merged into the airport snapshot on top of the external API's data.
+ * Files are applied in the configured order. For the fields listed in {@code overrideFields} a file value replaces
+ * the feed value; every other field is only taken from a file when the feed has no value for it.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "airport.supplementary")
+public class SupplementaryDataProperties {
+
+    /**
+     * Paths of the files to merge. Files ending in ".csv" are read as CSV with a header row,
+     * files ending in ".ndjson" or ".jsonl" as one JSON object per line.
+     */
+    private List<String> files = new ArrayList<>();
+
+    /**
+     * The fields for which a file value takes precedence over the feed value (e.g. "latitude,longitude").
+     */
+    private Set<String> overrideFields = new LinkedHashSet<>();
+
+    /**
+     * The size of the chunks a file is split into for parallel parsing, at most 1 GB.
+     */
+    private DataSize chunkSize = DataSize.ofMegabytes(16);
+}
@@ -0,0 +1,32 @@
+package com.qantas.challenge.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the warm-up stage that runs after the airport cache has been loaded.
+ * The replica only reports itself ready once warm-up has finished.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "airport.warmup")
+public class WarmupProperties {
+
+    /**
+     * Whether the warm-up stage runs. When disabled, the replica is ready as soon as the cache is loaded.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The number of rounds of representative queries to run. Each round runs every query shape once.
+     */
+    private int rounds = 200;
+
+    /**
+     * The time after which warm-up stops early, so that a slow machine still becomes ready.
+     */
+    private Duration maxDuration = Duration.ofSeconds(30);
+}
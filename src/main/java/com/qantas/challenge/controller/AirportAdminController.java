@@ -1,6 +1,8 @@
 package com.qantas.challenge.controller;
 
 import com.qantas.challenge.dto.AirportDto;
+import com.qantas.challenge.dto.DataQualityReport;
+import com.qantas.challenge.service.AirportService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -20,6 +22,22 @@ import java.net.URI;
 @RequestMapping("/api/v1/admin/airports")
 public class AirportAdminController {
 
+    private final AirportService airportService;
+
+    public AirportAdminController(AirportService airportService) {
+        this.airportService = airportService;
+    }
+
+    /**
+     * Handles GET requests for the data-quality report of the last ingestion from the external API.
+     * The report lists the records that were rejected, de-duplicated or normalized, with reasons.
+     * @return A ResponseEntity with the report and 200 OK, or 404 Not Found if this replica took its data from a peer.
+     */
+    @GetMapping("/data-quality")
+    public ResponseEntity<DataQualityReport> getDataQualityReport() {
+        return ResponseEntity.of(airportService.getDataQualityReport());
+    }
+
     /**
      * Placeholder endpoint to handle POST requests for creating a new airport.
      * In a real application, this would persist the new airport to a database.
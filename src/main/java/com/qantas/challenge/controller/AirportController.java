@@ -1,14 +1,28 @@
 package com.qantas.challenge.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.qantas.challenge.dto.AirportDto;
+import com.qantas.challenge.dto.AirportQueryDto;
+import com.qantas.challenge.dto.AirportQueryResultDto;
+import com.qantas.challenge.dto.DistanceMatrixDto;
+import com.qantas.challenge.dto.DistanceMatrixRequest;
+import com.qantas.challenge.service.AirportBatchService;
+import com.qantas.challenge.service.AirportDistanceService;
 import com.qantas.challenge.service.AirportService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Exposes the public, read-only REST endpoints for querying airport information.
@@ -19,9 +33,16 @@ import java.util.List;
 public class AirportController {
 
     private final AirportService airportService;
+    private final AirportDistanceService airportDistanceService;
+    private final AirportBatchService airportBatchService;
+    private final ObjectMapper objectMapper;
 
-    public AirportController(AirportService airportService) {
+    public AirportController(AirportService airportService, AirportDistanceService airportDistanceService,
+                             AirportBatchService airportBatchService, ObjectMapper objectMapper) {
         this.airportService = airportService;
+        this.airportDistanceService = airportDistanceService;
+        this.airportBatchService = airportBatchService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -45,4 +66,49 @@ public class AirportController {
         List<AirportDto> airports = airportService.getAirports(countryCode, regionCode, stateCode, cityCode, airportName);
         return ResponseEntity.ok(airports);
     }
+
+    /**
+     * Handles GET requests to /api/v1/airports/{airportCode} to fetch a single airport.
+     * @param airportCode The IATA code of the airport (e.g., "SYD"), matched case-insensitively.
+     * @return A ResponseEntity with the airport and 200 OK, or 404 Not Found if the code is unknown.
+     */
+    @GetMapping("/{airportCode}")
+    public ResponseEntity<AirportDto> getAirportByCode(@PathVariable String airportCode) {
+        return ResponseEntity.of(airportService.getAirportByCode(airportCode));
+    }
+
+    /**
+     * Handles POST requests to /api/v1/airports/distances to compute great-circle distances in bulk.
+     * @param request The origin and destination airport codes, and whether a matrix or a pair list is wanted.
+     * @return A ResponseEntity with the distances in kilometres and a 200 OK status,
+     *         or 400 Bad Request if any airport is unknown or the request is too large.
+     */
+    @PostMapping("/distances")
+    public ResponseEntity<DistanceMatrixDto> getDistanceMatrix(@RequestBody DistanceMatrixRequest request) {
+        return ResponseEntity.ok(airportDistanceService.getDistanceMatrix(request));
+    }
+
+    /**
+     * Handles POST requests to /api/v1/airports/batch to run many filter combinations in one round trip.
+     * The queries run concurrently against the same cache snapshot, identical queries are executed only once,
+     * and each result is streamed to the client as soon as it and all results before it are ready.
+     * @param queries The filter combinations, each with the same filters as GET /api/v1/airports and an optional id.
+     * @return A ResponseEntity streaming a JSON array with one entry per distinct query, in request order,
+     *         or 400 Bad Request if the batch is empty or too large.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<StreamingResponseBody> getAirportsBatch(@RequestBody List<AirportQueryDto> queries) {
+        List<CompletableFuture<AirportQueryResultDto>> results = airportBatchService.execute(queries);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                for (CompletableFuture<AirportQueryResultDto> result : results) {
+                    objectMapper.writeValue(generator, result.join());
+                    generator.flush();
+                }
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
 }
\ No newline at end of file
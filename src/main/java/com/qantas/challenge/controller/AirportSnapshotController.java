@@ -0,0 +1,51 @@
+package com.qantas.challenge.controller;
+
+import com.qantas.challenge.client.PeerSnapshotClient;
+import com.qantas.challenge.config.ClusterProperties;
+import com.qantas.challenge.dto.AirportDto;
+import com.qantas.challenge.service.AirportService;
+import com.qantas.challenge.service.AirportSnapshot;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Exposes the cached airport snapshot to other replicas of this service when running in cluster mode.
+ * Outside cluster mode the endpoint responds with 404, so it is not an unmetered copy of the full airport list.
+ * The snapshot version is published as the ETag, so followers holding the same version receive a 304.
+ * The ETag is weak because the same version may be sent either plain or gzip-compressed, and Tomcat only
+ * compresses responses without a strong ETag.
+ */
+@RestController
+public class AirportSnapshotController {
+
+    private final AirportService airportService;
+    private final ClusterProperties clusterProperties;
+
+    public AirportSnapshotController(AirportService airportService, ClusterProperties clusterProperties) {
+        this.airportService = airportService;
+        this.clusterProperties = clusterProperties;
+    }
+
+    /**
+     * Handles GET requests for the full, versioned airport snapshot.
+     * Spring MVC evaluates the caller's If-None-Match header against the ETag of the returned entity.
+     * @return The snapshot with a 200 OK and ETag, a 304 Not Modified if the caller already holds this version,
+     *         a 503 Service Unavailable if this replica has not loaded any data yet,
+     *         or a 404 Not Found if cluster mode is disabled.
+     */
+    @GetMapping(PeerSnapshotClient.SNAPSHOT_PATH)
+    public ResponseEntity<List<AirportDto>> getSnapshot() {
+        if (!clusterProperties.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        AirportSnapshot snapshot = airportService.getSnapshot();
+        if (snapshot.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok().eTag("W/\"" + snapshot.getVersion() + "\"").body(snapshot.getAirports());
+    }
+}
@@ -1,10 +1,13 @@
 package com.qantas.challenge.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 /**
  * Represents the simplified, flat data structure for an airport that is exposed by our API.
  * This serves as the public data contract for our service, decoupling our clients from the
@@ -28,4 +31,6 @@ public class AirportDto {
     private String countryName;
     private String regionCode;
     private String regionName;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<String> alternateNames;
 }
\ No newline at end of file
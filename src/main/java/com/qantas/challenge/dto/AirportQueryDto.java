@@ -0,0 +1,25 @@
+package com.qantas.challenge.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a single filter combination within a batch query, with the same filters as GET /api/v1/airports.
+ * The optional id lets the caller match the query to its result.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AirportQueryDto {
+    private String id;
+    private String countryCode;
+    private String regionCode;
+    private String stateCode;
+    private String cityCode;
+    private String airportName;
+}
@@ -0,0 +1,28 @@
+package com.qantas.challenge.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Represents the result of one distinct query within a batch.
+ * Identical queries in the same batch are executed and serialized once, and {@code ids} lists all of them.
+ * A query that failed has no airports and carries an {@code error}, so that the other results of the streamed
+ * batch are still delivered as valid JSON.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AirportQueryResultDto {
+    private List<String> ids;
+    private AirportQueryDto query;
+    private int count;
+    private List<AirportDto> airports;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String error;
+}
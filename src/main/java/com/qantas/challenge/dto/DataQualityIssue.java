@@ -0,0 +1,20 @@
+package com.qantas.challenge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a single record from the external data source or a supplementary file that was rejected,
+ * de-duplicated or normalized during ingestion, together with the reason.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DataQualityIssue {
+    private int position;
+    private String airportCode;
+    private String detail;
+}
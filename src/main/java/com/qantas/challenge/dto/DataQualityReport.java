@@ -0,0 +1,39 @@
+package com.qantas.challenge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents the outcome of the last ingestion of the external airport data and of the supplementary files.
+ * The counters cover every record. The sample lists are capped, so that a feed with many issues cannot produce
+ * an unbounded report. The position of a supplementary sample is its line number in the file named in its detail.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DataQualityReport {
+    private Instant generatedAt;
+    private long durationMillis;
+    private int received;
+    private int accepted;
+    private int rejected;
+    private int duplicates;
+    private int normalized;
+    private Map<String, Integer> rejectedByReason;
+    private List<DataQualityIssue> rejectedSamples;
+    private List<DataQualityIssue> duplicateSamples;
+    private List<DataQualityIssue> normalizedSamples;
+    private int supplementaryReceived;
+    private int supplementaryRejected;
+    private int supplementaryMerged;
+    private int supplementaryAdded;
+    private Map<String, Integer> supplementaryRejectedByReason;
+    private List<DataQualityIssue> supplementaryRejectedSamples;
+}
@@ -0,0 +1,26 @@
+package com.qantas.challenge.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Represents the great-circle distances, in kilometres, between the requested airports.
+ * Depending on the requested format, either {@code distances} holds one row per origin and one column per
+ * destination, or {@code pairs} lists every origin/destination combination.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DistanceMatrixDto {
+    private List<String> origins;
+    private List<String> destinations;
+    private double[][] distances;
+    private List<DistancePairDto> pairs;
+}
@@ -0,0 +1,31 @@
+package com.qantas.challenge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Represents a request for the great-circle distances between a list of origin and destination airports.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DistanceMatrixRequest {
+
+    /**
+     * The layout of the response: a matrix with one row per origin, or a flat list of origin/destination pairs.
+     */
+    public enum Format {
+        MATRIX,
+        PAIRS
+    }
+
+    private List<String> origins;
+    private List<String> destinations;
+    @Builder.Default
+    private Format format = Format.MATRIX;
+}
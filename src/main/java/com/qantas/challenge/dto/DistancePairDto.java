@@ -0,0 +1,19 @@
+package com.qantas.challenge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents the great-circle distance, in kilometres, between a single origin and destination airport.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DistancePairDto {
+    private String origin;
+    private String destination;
+    private double distanceKm;
+}
@@ -0,0 +1,42 @@
+package com.qantas.challenge.health;
+
+import com.qantas.challenge.service.AirportService;
+import com.qantas.challenge.service.AirportWarmupService;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports whether this replica has loaded its airport cache and finished warming up.
+ * It is part of the readiness health group, so a new replica only receives traffic once both are done.
+ */
+@Component("warmup")
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final AirportService airportService;
+    private final AirportWarmupService airportWarmupService;
+
+    public WarmupHealthIndicator(AirportService airportService, AirportWarmupService airportWarmupService) {
+        this.airportService = airportService;
+        this.airportWarmupService = airportWarmupService;
+    }
+
+    @Override
+    public Health health() {
+        int cacheSize = airportService.getSnapshot().getAirports().size();
+        if (cacheSize == 0) {
+            return Health.outOfService().withDetail("reason", "Airport cache is not loaded").build();
+        }
+        if (!airportWarmupService.isComplete()) {
+            return Health.outOfService()
+                    .withDetail("reason", "Warm-up in progress")
+                    .withDetail("cacheSize", cacheSize)
+                    .build();
+        }
+        return Health.up()
+                .withDetail("cacheSize", cacheSize)
+                .withDetail("warmupRounds", airportWarmupService.getCompletedRounds())
+                .withDetail("warmupMillis", airportWarmupService.getDurationMillis())
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.qantas.challenge.service;
+
+import com.qantas.challenge.dto.AirportDto;
+import com.qantas.challenge.dto.AirportQueryDto;
+import com.qantas.challenge.dto.AirportQueryResultDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Service executing many airport queries in a single request.
+ * All queries of a batch run against the same snapshot, so their results are consistent with each other even if
+ * the cache is reloaded in the meantime. Identical queries are executed once, and distinct queries run concurrently
+ * on the common fork-join pool. A failing query completes with an error entry instead of failing its future, because
+ * the results are streamed after the response status has been sent.
+ */
+@Slf4j
+@Service
+public class AirportBatchService {
+
+    private final AirportService airportService;
+    private final int maxQueries;
+
+    public AirportBatchService(AirportService airportService, @Value("${airport.batch.max-queries:100}") int maxQueries) {
+        this.airportService = airportService;
+        this.maxQueries = maxQueries;
+    }
+
+    /**
+     * Starts executing the given queries.
+     * @param queries The filter combinations. A query without an id is identified by its position in the batch.
+     * @return One future result per distinct query, in the order in which each query first appears in the batch.
+     *         The futures always complete normally; a failed query is reported through the result's error.
+     * @throws ResponseStatusException with 400 Bad Request if the batch is empty, too large or contains a null query.
+     */
+    public List<CompletableFuture<AirportQueryResultDto>> execute(List<AirportQueryDto> queries) {
+        if (queries == null || queries.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At least one query must be provided.");
+        }
+        if (queries.size() > maxQueries) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Requested " + queries.size() + " queries, but at most " + maxQueries + " are allowed per batch.");
+        }
+
+        Map<AirportQueryDto, List<String>> idsByQuery = new LinkedHashMap<>();
+        for (int i = 0; i < queries.size(); i++) {
+            AirportQueryDto query = queries.get(i);
+            if (query == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The query at position " + i + " must not be null.");
+            }
+            String id = query.getId() != null ? query.getId() : Integer.toString(i);
+            idsByQuery.computeIfAbsent(normalize(query), key -> new ArrayList<>()).add(id);
+        }
+
+        AirportSnapshot snapshot = airportService.getSnapshot();
+        List<CompletableFuture<AirportQueryResultDto>> results = new ArrayList<>(idsByQuery.size());
+        idsByQuery.forEach((query, ids) -> results.add(CompletableFuture.supplyAsync(() -> {
+            List<AirportDto> airports = airportService.getAirports(snapshot, query.getCountryCode(), query.getRegionCode(),
+                    query.getStateCode(), query.getCityCode(), query.getAirportName());
+            return AirportQueryResultDto.builder().ids(ids).query(query).count(airports.size()).airports(airports).build();
+        }).exceptionally(e -> {
+            log.error("Batch query {} failed", query, e);
+            return AirportQueryResultDto.builder().ids(ids).query(query).airports(List.of())
+                    .error("The query could not be executed.").build();
+        })));
+        return results;
+    }
+
+    /**
+     * Reduces a query to a canonical form, so that queries differing only in letter case or in blank filters
+     * are recognized as identical. Codes are compared case-insensitively and names are matched case-insensitively,
+     * so the canonical form returns the same airports as the original.
+     */
+    private static AirportQueryDto normalize(AirportQueryDto query) {
+        return AirportQueryDto.builder()
+                .countryCode(normalize(query.getCountryCode()))
+                .regionCode(normalize(query.getRegionCode()))
+                .stateCode(normalize(query.getStateCode()))
+                .cityCode(normalize(query.getCityCode()))
+                .airportName(query.getAirportName() != null && !query.getAirportName().isBlank()
+                        ? query.getAirportName().toLowerCase(Locale.ROOT) : null)
+                .build();
+    }
+
+    private static String normalize(String code) {
+        return code != null && !code.isBlank() ? code.toUpperCase(Locale.ROOT) : null;
+    }
+}
@@ -0,0 +1,9 @@
+package com.qantas.challenge.service;
+
+/**
+ * Published by the AirportService whenever a new snapshot has been stored in the cache, either at startup or
+ * when a follower synchronizes with its leader.
+ * @param snapshot The snapshot now held in the cache.
+ */
+public record AirportCacheLoadedEvent(AirportSnapshot snapshot) {
+}
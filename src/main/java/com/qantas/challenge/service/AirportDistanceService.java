@@ -0,0 +1,94 @@
+package com.qantas.challenge.service;
+
+import com.qantas.challenge.dto.DistanceMatrixDto;
+import com.qantas.challenge.dto.DistanceMatrixRequest;
+import com.qantas.challenge.dto.DistancePairDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service computing great-circle distances between airports in the current snapshot.
+ * The coordinates come from the snapshot's precomputed {@link AirportGeoIndex}, so a request only pays for
+ * the distance arithmetic itself. Large matrices are computed in parallel across cores.
+ */
+@Service
+public class AirportDistanceService {
+
+    private final AirportService airportService;
+    private final int parallelThreshold;
+    private final int maxPairs;
+
+    public AirportDistanceService(AirportService airportService,
+                                  @Value("${airport.distance.parallel-threshold:10000}") int parallelThreshold,
+                                  @Value("${airport.distance.max-pairs:1000000}") int maxPairs) {
+        this.airportService = airportService;
+        this.parallelThreshold = parallelThreshold;
+        this.maxPairs = maxPairs;
+    }
+
+    /**
+     * Computes the distances between every requested origin and every requested destination.
+     * @param request The origin and destination airport codes and the desired response format.
+     * @return The distances in kilometres, as a matrix or as a list of pairs.
+     * @throws ResponseStatusException with 400 Bad Request if the request is empty, too large,
+     *         or refers to airports that are unknown or have no coordinates.
+     */
+    public DistanceMatrixDto getDistanceMatrix(DistanceMatrixRequest request) {
+        List<String> origins = request.getOrigins();
+        List<String> destinations = request.getDestinations();
+        if (origins == null || origins.isEmpty() || destinations == null || destinations.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Both origins and destinations must be provided.");
+        }
+        long pairCount = (long) origins.size() * destinations.size();
+        if (pairCount > maxPairs) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Requested " + pairCount + " pairs, but at most " + maxPairs + " are allowed per request.");
+        }
+
+        AirportGeoIndex geoIndex = airportService.getSnapshot().getGeoIndex();
+        List<String> unknownCodes = new ArrayList<>();
+        int[] originIndexes = resolve(geoIndex, origins, unknownCodes);
+        int[] destinationIndexes = resolve(geoIndex, destinations, unknownCodes);
+        if (!unknownCodes.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Unknown airport codes or airports without coordinates: " + unknownCodes);
+        }
+
+        double[][] distances = geoIndex.distances(originIndexes, destinationIndexes, pairCount >= parallelThreshold);
+        if (request.getFormat() == DistanceMatrixRequest.Format.PAIRS) {
+            return DistanceMatrixDto.builder().pairs(toPairs(origins, destinations, distances)).build();
+        }
+        return DistanceMatrixDto.builder()
+                .origins(origins)
+                .destinations(destinations)
+                .distances(distances)
+                .build();
+    }
+
+    private static int[] resolve(AirportGeoIndex geoIndex, List<String> codes, List<String> unknownCodes) {
+        int[] indexes = new int[codes.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            String code = codes.get(i);
+            indexes[i] = code != null ? geoIndex.indexOf(code) : -1;
+            if (indexes[i] < 0) {
+                unknownCodes.add(code);
+            }
+        }
+        return indexes;
+    }
+
+    private static List<DistancePairDto> toPairs(List<String> origins, List<String> destinations, double[][] distances) {
+        List<DistancePairDto> pairs = new ArrayList<>(origins.size() * destinations.size());
+        for (int row = 0; row < origins.size(); row++) {
+            for (int column = 0; column < destinations.size(); column++) {
+                pairs.add(new DistancePairDto(origins.get(row), destinations.get(column), distances[row][column]));
+            }
+        }
+        return pairs;
+    }
+}
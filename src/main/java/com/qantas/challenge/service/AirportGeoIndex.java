@@ -0,0 +1,100 @@
+package com.qantas.challenge.service;
+
+import com.qantas.challenge.dto.AirportDto;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * A primitive, read-only copy of the airport coordinates in a snapshot, laid out for bulk distance computation.
+ * Every airport with coordinates is converted once into a point on the unit sphere, stored in three parallel
+ * double arrays. The great-circle distance between two airports then only needs the straight-line (chord)
+ * distance c between their points: the central angle is 2 * asin(c / 2), evaluated as
+ * 2 * atan2(c, sqrt(4 - c^2)), which is equally accurate but much faster than asin for long distances.
+ */
+final class AirportGeoIndex {
+
+    static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private final Map<String, Integer> indexByCode;
+    private final double[] x;
+    private final double[] y;
+    private final double[] z;
+
+    private AirportGeoIndex(Map<String, Integer> indexByCode, double[] x, double[] y, double[] z) {
+        this.indexByCode = indexByCode;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * Builds the index for the given airports. Airports without a code or without coordinates are left out,
+     * and the first airport wins if a code occurs more than once.
+     */
+    static AirportGeoIndex of(List<AirportDto> airports) {
+        Map<String, Integer> indexByCode = new HashMap<>(airports.size() * 2);
+        double[] x = new double[airports.size()];
+        double[] y = new double[airports.size()];
+        double[] z = new double[airports.size()];
+        int size = 0;
+        for (AirportDto airport : airports) {
+            if (airport.getAirportCode() == null || airport.getLatitude() == null || airport.getLongitude() == null) {
+                continue;
+            }
+            if (indexByCode.putIfAbsent(airport.getAirportCode().toUpperCase(Locale.ROOT), size) != null) {
+                continue;
+            }
+            double latitude = Math.toRadians(airport.getLatitude());
+            double longitude = Math.toRadians(airport.getLongitude());
+            double cosLatitude = Math.cos(latitude);
+            x[size] = cosLatitude * Math.cos(longitude);
+            y[size] = cosLatitude * Math.sin(longitude);
+            z[size] = Math.sin(latitude);
+            size++;
+        }
+        return new AirportGeoIndex(indexByCode, x, y, z);
+    }
+
+    /**
+     * Returns the position of the given airport code in this index, ignoring case.
+     * @return The position, or -1 if the airport is unknown or has no coordinates.
+     */
+    int indexOf(String airportCode) {
+        Integer index = indexByCode.get(airportCode.toUpperCase(Locale.ROOT));
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Computes the great-circle distance in kilometres between every origin and every destination.
+     * @param origins The positions of the origin airports in this index.
+     * @param destinations The positions of the destination airports in this index.
+     * @param parallel Whether the rows of the matrix are computed in parallel on the common fork-join pool.
+     * @return A matrix with one row per origin and one column per destination.
+     */
+    double[][] distances(int[] origins, int[] destinations, boolean parallel) {
+        double[][] matrix = new double[origins.length][];
+        IntStream rows = IntStream.range(0, origins.length);
+        (parallel ? rows.parallel() : rows).forEach(row -> matrix[row] = distancesFrom(origins[row], destinations));
+        return matrix;
+    }
+
+    private double[] distancesFrom(int origin, int[] destinations) {
+        double ox = x[origin];
+        double oy = y[origin];
+        double oz = z[origin];
+        double[] row = new double[destinations.length];
+        for (int column = 0; column < destinations.length; column++) {
+            int destination = destinations[column];
+            double dx = ox - x[destination];
+            double dy = oy - y[destination];
+            double dz = oz - z[destination];
+            double chordSquared = dx * dx + dy * dy + dz * dz;
+            row[column] = 2 * EARTH_RADIUS_KM * Math.atan2(Math.sqrt(chordSquared), Math.sqrt(Math.max(0.0, 4.0 - chordSquared)));
+        }
+        return row;
+    }
+}
@@ -0,0 +1,216 @@
+package com.qantas.challenge.service;
+
+import com.qantas.challenge.dto.AirportDto;
+import com.qantas.challenge.dto.DataQualityIssue;
+import com.qantas.challenge.dto.DataQualityReport;
+import com.qantas.challenge.dto.source.QantasApiAirport;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Turns the raw records of the external data source into the airports held in a snapshot.
+ * Records are validated, transformed and normalized in parallel on the common fork-join pool. Records sharing an
+ * airport code are then de-duplicated: the most complete record wins, and the earliest one in the feed breaks
+ * ties. Because this precedence depends only on the records themselves, the result is the same for every run
+ * regardless of how the work was split. Every rejection, duplicate and normalization is counted in a
+ * {@link DataQualityReport}.
+ */
+final class AirportIngestionPipeline {
+
+    static final int MAX_SAMPLES = 100;
+
+    static final String NULL_RECORD = "Record is null";
+    static final String MISSING_AIRPORT_CODE = "Missing airport code";
+    static final String MISSING_CITY = "Missing city";
+    static final String MISSING_LOCATION = "Missing location";
+    static final String MISSING_COUNTRY = "Missing country";
+    static final String MISSING_REGION = "Missing region";
+
+    private static final Comparator<Candidate> PRECEDENCE = Comparator
+            .comparingInt(Candidate::completeness)
+            .thenComparing(Comparator.comparingInt(Candidate::position).reversed());
+
+    /**
+     * The outcome of an ingestion: the de-duplicated airports in feed order, and the report describing them.
+     */
+    record Result(List<AirportDto> airports, DataQualityReport report) {
+    }
+
+    private record Candidate(int position, String code, AirportDto airport, String rejection, List<String> normalizedFields, int completeness) {
+    }
+
+    private final Function<QantasApiAirport, AirportDto> transformer;
+
+    AirportIngestionPipeline(Function<QantasApiAirport, AirportDto> transformer) {
+        this.transformer = transformer;
+    }
+
+    /**
+     * Determines why a raw record cannot be transformed.
+     * @param source The raw airport object from the external API.
+     * @return The reason the record is rejected, or null if it is complete enough to be transformed.
+     */
+    static String rejectionReason(QantasApiAirport source) {
+        if (source == null) {
+            return NULL_RECORD;
+        }
+        if (source.getCity() == null) {
+            return MISSING_CITY;
+        }
+        if (source.getLocation() == null) {
+            return MISSING_LOCATION;
+        }
+        if (source.getCountry() == null) {
+            return MISSING_COUNTRY;
+        }
+        if (source.getRegion() == null) {
+            return MISSING_REGION;
+        }
+        return null;
+    }
+
+    /**
+     * Runs the pipeline over all records of the external data source.
+     * @param rawAirports The raw records, in feed order.
+     * @return The accepted airports and the data-quality report.
+     */
+    Result ingest(List<QantasApiAirport> rawAirports) {
+        long start = System.nanoTime();
+        Candidate[] candidates = IntStream.range(0, rawAirports.size())
+                .parallel()
+                .mapToObj(position -> toCandidate(position, rawAirports.get(position)))
+                .toArray(Candidate[]::new);
+
+        Map<String, Candidate> winners = new ConcurrentHashMap<>(candidates.length * 2);
+        Arrays.stream(candidates)
+                .parallel()
+                .filter(candidate -> candidate.airport() != null)
+                .forEach(candidate -> winners.merge(candidate.code(), candidate,
+                        (first, second) -> PRECEDENCE.compare(first, second) >= 0 ? first : second));
+
+        boolean[] isWinner = new boolean[candidates.length];
+        winners.values().forEach(winner -> isWinner[winner.position()] = true);
+
+        List<AirportDto> airports = new ArrayList<>(winners.size());
+        DataQualityReport report = DataQualityReport.builder()
+                .generatedAt(Instant.now())
+                .received(rawAirports.size())
+                .rejectedByReason(new TreeMap<>())
+                .rejectedSamples(new ArrayList<>())
+                .duplicateSamples(new ArrayList<>())
+                .normalizedSamples(new ArrayList<>())
+                .build();
+
+        for (Candidate candidate : candidates) {
+            if (candidate.rejection() != null) {
+                report.setRejected(report.getRejected() + 1);
+                report.getRejectedByReason().merge(candidate.rejection(), 1, Integer::sum);
+                addSample(report.getRejectedSamples(), candidate, candidate.rejection());
+                continue;
+            }
+            if (!candidate.normalizedFields().isEmpty()) {
+                report.setNormalized(report.getNormalized() + 1);
+                addSample(report.getNormalizedSamples(), candidate, "Normalized " + String.join(", ", candidate.normalizedFields()));
+            }
+            if (!isWinner[candidate.position()]) {
+                report.setDuplicates(report.getDuplicates() + 1);
+                if (report.getDuplicateSamples().size() < MAX_SAMPLES) {
+                    addSample(report.getDuplicateSamples(), candidate,
+                            "Duplicate of the record at position " + winners.get(candidate.code()).position());
+                }
+                continue;
+            }
+            airports.add(candidate.airport());
+        }
+
+        report.setAccepted(airports.size());
+        report.setDurationMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return new Result(airports, report);
+    }
+
+    private Candidate toCandidate(int position, QantasApiAirport source) {
+        String rejection = rejectionReason(source);
+        if (rejection == null && (source.getAirportCode() == null || source.getAirportCode().isBlank())) {
+            rejection = MISSING_AIRPORT_CODE;
+        }
+        if (rejection != null) {
+            String code = source != null ? source.getAirportCode() : null;
+            return new Candidate(position, code, null, rejection, List.of(), 0);
+        }
+        AirportDto airport = transformer.apply(source);
+        List<String> normalizedFields = normalize(airport);
+        return new Candidate(position, airport.getAirportCode(), airport, null, normalizedFields, completeness(airport));
+    }
+
+    /**
+     * Trims all names and codes and upper-cases the codes, so that records differing only in formatting
+     * are recognized as duplicates.
+     * @return The names of the fields that were changed.
+     */
+    private static List<String> normalize(AirportDto airport) {
+        List<String> changed = new ArrayList<>(1);
+        airport.setAirportCode(normalizeCode(airport.getAirportCode(), "airportCode", changed));
+        airport.setCityCode(normalizeCode(airport.getCityCode(), "cityCode", changed));
+        airport.setStateCode(normalizeCode(airport.getStateCode(), "stateCode", changed));
+        airport.setCountryCode(normalizeCode(airport.getCountryCode(), "countryCode", changed));
+        airport.setRegionCode(normalizeCode(airport.getRegionCode(), "regionCode", changed));
+        airport.setAirportName(normalizeName(airport.getAirportName(), "airportName", changed));
+        airport.setCityName(normalizeName(airport.getCityName(), "cityName", changed));
+        airport.setStateName(normalizeName(airport.getStateName(), "stateName", changed));
+        airport.setCountryName(normalizeName(airport.getCountryName(), "countryName", changed));
+        airport.setRegionName(normalizeName(airport.getRegionName(), "regionName", changed));
+        return changed;
+    }
+
+    private static String normalizeCode(String value, String field, List<String> changed) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.trim().toUpperCase(Locale.ROOT);
+        if (!normalized.equals(value)) {
+            changed.add(field);
+        }
+        return normalized;
+    }
+
+    private static String normalizeName(String value, String field, List<String> changed) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.trim();
+        if (!normalized.equals(value)) {
+            changed.add(field);
+        }
+        return normalized;
+    }
+
+    private static int completeness(AirportDto airport) {
+        Object[] fields = {airport.getAirportName(), airport.getLatitude(), airport.getLongitude(), airport.getCityCode(),
+                airport.getCityName(), airport.getTimeZoneName(), airport.getStateCode(), airport.getStateName(),
+                airport.getCountryCode(), airport.getCountryName(), airport.getRegionCode(), airport.getRegionName()};
+        int count = 0;
+        for (Object field : fields) {
+            if (field != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static void addSample(List<DataQualityIssue> samples, Candidate candidate, String detail) {
+        if (samples.size() < MAX_SAMPLES) {
+            samples.add(new DataQualityIssue(candidate.position(), candidate.code(), detail));
+        }
+    }
+}
@@ -1,15 +1,20 @@
 package com.qantas.challenge.service;
 
+import com.qantas.challenge.client.PeerSnapshotClient;
 import com.qantas.challenge.client.QantasApiClient;
+import com.qantas.challenge.config.ClusterProperties;
 import com.qantas.challenge.dto.AirportDto;
+import com.qantas.challenge.dto.DataQualityReport;
 import com.qantas.challenge.dto.source.QantasApiAirport;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Objects;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -22,29 +27,117 @@ import java.util.stream.Stream;
 @Service
 public class AirportService {
 
+    private static final long INITIAL_LEADER_BACKOFF_MILLIS = 200;
+    private static final long MAX_LEADER_BACKOFF_MILLIS = 2_000;
+
     private final QantasApiClient qantasApiClient;
-    private final List<AirportDto> airportCache = new CopyOnWriteArrayList<>();
+    private final PeerSnapshotClient peerSnapshotClient;
+    private final ClusterProperties clusterProperties;
+    private final SupplementaryDataService supplementaryDataService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AirportIngestionPipeline ingestionPipeline = new AirportIngestionPipeline(this::transformToDto);
+    private volatile AirportSnapshot airportCache = AirportSnapshot.EMPTY;
+    private volatile DataQualityReport dataQualityReport;
 
-    public AirportService(QantasApiClient qantasApiClient) {
+    public AirportService(QantasApiClient qantasApiClient, PeerSnapshotClient peerSnapshotClient, ClusterProperties clusterProperties,
+                          SupplementaryDataService supplementaryDataService, ApplicationEventPublisher eventPublisher) {
         this.qantasApiClient = qantasApiClient;
+        this.peerSnapshotClient = peerSnapshotClient;
+        this.clusterProperties = clusterProperties;
+        this.supplementaryDataService = supplementaryDataService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
      * Initializes the in-memory airport cache when the application starts.
      * This method is automatically called by Spring after the service has been constructed.
-     * It fetches data from the external API, transforms it, and stores it for fast access.
+     * In cluster mode a follower first pulls the snapshot from the elected leader, waiting up to
+     * {@code airport.cluster.leader-wait} for it to become available; the leader, a standalone replica,
+     * or a follower whose leader stays unavailable fetches data from the external API,
+     * runs it through the ingestion pipeline, merges the supplementary files into it, and stores it for fast access.
      */
     @PostConstruct
     public void loadAirportsIntoCache() {
         log.info("Initializing airport cache on application startup...");
-        List<QantasApiAirport> rawAirports = qantasApiClient.fetchAirports();
-        List<AirportDto> transformedAirports = rawAirports.stream()
-                .map(this::transformToDto)
-                .filter(Objects::nonNull)
-                .toList();
+        AirportSnapshot snapshot = null;
+        if (clusterProperties.isFollower()) {
+            snapshot = fetchFromLeader();
+            if (snapshot == null) {
+                log.warn("Leader {} is still unavailable after {}, falling back to the external API.",
+                        clusterProperties.leaderUrl(), clusterProperties.getLeaderWait());
+            }
+        }
+        if (snapshot == null) {
+            snapshot = AirportSnapshot.of(fetchAndIngest());
+        }
+
+        airportCache = snapshot;
+        eventPublisher.publishEvent(new AirportCacheLoadedEvent(snapshot));
+        log.info("Airport cache initialized with {} entries at version {}.", snapshot.getAirports().size(), snapshot.getVersion());
+    }
+
+    /**
+     * Pulls the leader's snapshot, retrying with exponential backoff until {@code airport.cluster.leader-wait} has
+     * passed. When the cluster starts together, the leader is usually still loading its own data at this point.
+     * @return The leader's snapshot, or null if it did not become available in time.
+     */
+    private AirportSnapshot fetchFromLeader() {
+        String leaderUrl = clusterProperties.leaderUrl();
+        long deadline = System.nanoTime() + clusterProperties.getLeaderWait().toNanos();
+        long backoffMillis = INITIAL_LEADER_BACKOFF_MILLIS;
+        while (true) {
+            AirportSnapshot snapshot = peerSnapshotClient.fetchSnapshot(leaderUrl, airportCache);
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (snapshot != null || remainingMillis <= 0) {
+                return snapshot;
+            }
+            long delayMillis = Math.min(backoffMillis, remainingMillis);
+            log.info("Leader {} is not ready yet, retrying in {} ms.", leaderUrl, delayMillis);
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            backoffMillis = Math.min(backoffMillis * 2, MAX_LEADER_BACKOFF_MILLIS);
+        }
+    }
 
-        airportCache.addAll(transformedAirports);
-        log.info("Airport cache initialized with {} entries.", airportCache.size());
+    /**
+     * Periodically re-synchronizes a follower with the leader's snapshot in cluster mode.
+     * The version handshake makes this a cheap 304 round trip while nothing has changed, and it lets a
+     * follower that had to fall back to the external API at startup converge on the leader's data version.
+     */
+    @Scheduled(fixedDelayString = "${airport.cluster.sync-interval:PT1M}", initialDelayString = "${airport.cluster.sync-interval:PT1M}")
+    public void syncWithLeader() {
+        if (!clusterProperties.isFollower()) {
+            return;
+        }
+        AirportSnapshot current = airportCache;
+        AirportSnapshot snapshot = peerSnapshotClient.fetchSnapshot(clusterProperties.leaderUrl(), current);
+        if (snapshot != null && snapshot != current) {
+            airportCache = snapshot;
+            dataQualityReport = null;
+            eventPublisher.publishEvent(new AirportCacheLoadedEvent(snapshot));
+            log.info("Airport cache synchronized with leader: {} entries at version {}.", snapshot.getAirports().size(), snapshot.getVersion());
+        }
+    }
+
+    /**
+     * Returns the snapshot currently held in the cache, for sharing with other replicas.
+     * @return The current, immutable airport snapshot.
+     */
+    public AirportSnapshot getSnapshot() {
+        return airportCache;
+    }
+
+    /**
+     * Looks up a single airport in the cache by its code.
+     * @param airportCode The IATA code of the airport, matched case-insensitively.
+     * @return The matching airport, or an empty Optional if it is unknown.
+     */
+    public Optional<AirportDto> getAirportByCode(String airportCode) {
+        return airportCache.findByCode(airportCode);
     }
 
     /**
@@ -53,7 +146,14 @@ public class AirportService {
      * @return A list of matching AirportDto objects.
      */
     public List<AirportDto> getAirports(String countryCode, String regionCode, String stateCode, String cityCode, String airportName) {
-        Stream<AirportDto> stream = airportCache.stream();
+        return getAirports(airportCache, countryCode, regionCode, stateCode, cityCode, airportName);
+    }
+
+    /**
+     * Filters the airports of the given snapshot, so that several queries can share one consistent view.
+     */
+    List<AirportDto> getAirports(AirportSnapshot snapshot, String countryCode, String regionCode, String stateCode, String cityCode, String airportName) {
+        Stream<AirportDto> stream = snapshot.getAirports().stream();
 
         if (countryCode != null && !countryCode.isBlank()) {
             stream = stream.filter(a -> countryCode.equalsIgnoreCase(a.getCountryCode()));
@@ -74,6 +174,29 @@ public class AirportService {
         return stream.collect(Collectors.toList());
     }
 
+    /**
+     * Returns the data-quality report of the last ingestion of the external API's data and the supplementary files.
+     * @return The report, or an empty Optional if this replica took its snapshot from a peer.
+     */
+    public Optional<DataQualityReport> getDataQualityReport() {
+        return Optional.ofNullable(dataQualityReport);
+    }
+
+    private List<AirportDto> fetchAndIngest() {
+        List<QantasApiAirport> rawAirports = qantasApiClient.fetchAirports();
+        AirportIngestionPipeline.Result result = ingestionPipeline.ingest(rawAirports);
+        DataQualityReport report = result.report();
+        if (report.getRejected() > 0 || report.getDuplicates() > 0) {
+            log.warn("Ingested {} of {} airports: {} rejected {}, {} duplicates, {} normalized.", report.getAccepted(), report.getReceived(),
+                    report.getRejected(), report.getRejectedByReason(), report.getDuplicates(), report.getNormalized());
+        } else {
+            log.info("Ingested {} airports, {} normalized, in {} ms.", report.getAccepted(), report.getNormalized(), report.getDurationMillis());
+        }
+        List<AirportDto> airports = supplementaryDataService.merge(result.airports(), report);
+        dataQualityReport = report;
+        return airports;
+    }
+
     /**
      * Transforms a raw QantasApiAirport object from the external source into our simplified AirportDto.
      * This method includes defensive checks to handle null or incomplete data gracefully,
@@ -82,8 +205,9 @@ public class AirportService {
      * @return A simplified AirportDto, or null if the source data is incomplete.
      */
     AirportDto transformToDto(QantasApiAirport source) {
-        if (source == null || source.getCity() == null || source.getLocation() == null || source.getCountry() == null || source.getRegion() == null) {
-            log.warn("Skipping transformation for incomplete airport data: {}", source != null ? source.getAirportCode() : "null");
+        String rejectionReason = AirportIngestionPipeline.rejectionReason(source);
+        if (rejectionReason != null) {
+            log.debug("Skipping transformation for incomplete airport data {}: {}", source != null ? source.getAirportCode() : "null", rejectionReason);
             return null;
         }
 
@@ -0,0 +1,109 @@
+package com.qantas.challenge.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qantas.challenge.dto.AirportDto;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * An immutable, versioned view of the cached airport data.
+ * The whole snapshot is swapped atomically on reload, so readers always see a consistent list together
+ * with the version that describes it. The version is derived from the content alone, which means every
+ * replica holding the same data reports the same version and can use it as an HTTP entity tag. It is the SHA-256
+ * digest of the airports serialized as JSON, so that two different snapshots practically never share a version
+ * and a follower never mistakes stale data for current data.
+ */
+@Getter
+public final class AirportSnapshot {
+
+    /**
+     * The snapshot used before the first successful load.
+     */
+    public static final AirportSnapshot EMPTY = new AirportSnapshot("0", List.of());
+
+    private static final ObjectMapper VERSION_MAPPER = new ObjectMapper();
+
+    private final String version;
+    private final List<AirportDto> airports;
+    @Getter(AccessLevel.NONE)
+    private final Map<String, AirportDto> airportsByCode;
+    @Getter(AccessLevel.PACKAGE)
+    private final AirportGeoIndex geoIndex;
+
+    private AirportSnapshot(String version, List<AirportDto> airports) {
+        this.version = version;
+        this.airports = airports;
+        this.airportsByCode = indexByCode(airports);
+        this.geoIndex = AirportGeoIndex.of(airports);
+    }
+
+    /**
+     * Creates a snapshot from the given airports, computing its version from their content.
+     * @param airports The transformed airport data.
+     * @return A new immutable snapshot.
+     */
+    public static AirportSnapshot of(List<AirportDto> airports) {
+        List<AirportDto> copy = List.copyOf(airports);
+        return new AirportSnapshot(computeVersion(copy), copy);
+    }
+
+    /**
+     * Creates a snapshot with a version that was already assigned elsewhere, such as by the cluster leader.
+     * @param version The version reported by the source of the data.
+     * @param airports The airport data.
+     * @return A new immutable snapshot.
+     */
+    public static AirportSnapshot of(String version, List<AirportDto> airports) {
+        return new AirportSnapshot(version, List.copyOf(airports));
+    }
+
+    public boolean isEmpty() {
+        return airports.isEmpty();
+    }
+
+    /**
+     * Looks up a single airport by its code, ignoring case.
+     * @param airportCode The airport code.
+     * @return The airport, or an empty Optional if no airport has this code.
+     */
+    public Optional<AirportDto> findByCode(String airportCode) {
+        return Optional.ofNullable(airportsByCode.get(airportCode.toUpperCase(Locale.ROOT)));
+    }
+
+    private static Map<String, AirportDto> indexByCode(List<AirportDto> airports) {
+        Map<String, AirportDto> index = new HashMap<>(airports.size() * 2);
+        for (AirportDto airport : airports) {
+            if (airport.getAirportCode() != null) {
+                index.putIfAbsent(airport.getAirportCode().toUpperCase(Locale.ROOT), airport);
+            }
+        }
+        return index;
+    }
+
+    private static String computeVersion(List<AirportDto> airports) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (OutputStream out = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+                VERSION_MAPPER.writeValue(out, airports);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not compute the snapshot version", e);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.qantas.challenge.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qantas.challenge.config.WarmupProperties;
+import com.qantas.challenge.dto.AirportDto;
+import com.qantas.challenge.dto.AirportQueryDto;
+import com.qantas.challenge.dto.DistanceMatrixRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Service warming up the hot code paths before a new replica takes traffic.
+ * Once the application is ready, it repeatedly runs representative query shapes against the real snapshot and
+ * serializes their results with the application's ObjectMapper, so that the JIT compiler has optimized the
+ * filtering, lookup, distance and JSON serialization code before the first client request arrives. The queries
+ * run in-process rather than over HTTP, so they are neither rate limited nor counted in the admission metrics.
+ */
+@Slf4j
+@Service
+public class AirportWarmupService {
+
+    private static final int SAMPLES_PER_SHAPE = 16;
+
+    private final AirportService airportService;
+    private final AirportDistanceService airportDistanceService;
+    private final AirportBatchService airportBatchService;
+    private final ObjectMapper objectMapper;
+    private final WarmupProperties warmupProperties;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean applicationReady;
+    private volatile boolean complete;
+    private volatile int completedRounds;
+    private volatile long durationMillis;
+
+    public AirportWarmupService(AirportService airportService, AirportDistanceService airportDistanceService,
+                                AirportBatchService airportBatchService, ObjectMapper objectMapper, WarmupProperties warmupProperties) {
+        this.airportService = airportService;
+        this.airportDistanceService = airportDistanceService;
+        this.airportBatchService = airportBatchService;
+        this.objectMapper = objectMapper;
+        this.warmupProperties = warmupProperties;
+    }
+
+    /**
+     * Starts warm-up on a background thread once the application is ready, so that startup itself is not delayed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!warmupProperties.isEnabled()) {
+            complete = true;
+            return;
+        }
+        applicationReady = true;
+        startWarmUp();
+    }
+
+    /**
+     * Starts warm-up when the cache is filled after the application became ready, such as a follower whose leader
+     * and external API were both unavailable at startup and which later synchronized with its leader.
+     */
+    @EventListener(AirportCacheLoadedEvent.class)
+    public void onCacheLoaded(AirportCacheLoadedEvent event) {
+        if (applicationReady && !event.snapshot().isEmpty()) {
+            startWarmUp();
+        }
+    }
+
+    private void startWarmUp() {
+        if (complete || !running.compareAndSet(false, true)) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                warmUp();
+            } finally {
+                running.set(false);
+            }
+            // A snapshot may have been loaded while this run found the cache empty and ignored the event.
+            if (!complete && !airportService.getSnapshot().isEmpty()) {
+                startWarmUp();
+            }
+        }, "airport-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Runs the configured number of warm-up rounds against the current snapshot.
+     * Warm-up is skipped, and not reported complete, while the snapshot is empty; it is started again once the
+     * cache has been loaded.
+     */
+    void warmUp() {
+        AirportSnapshot snapshot = airportService.getSnapshot();
+        if (snapshot.isEmpty()) {
+            log.warn("Skipping warm-up until the airport cache has been loaded.");
+            return;
+        }
+        log.info("Warming up with {} rounds against {} airports...", warmupProperties.getRounds(), snapshot.getAirports().size());
+        List<Runnable> shapes = queryShapes(snapshot.getAirports());
+        long start = System.nanoTime();
+        long deadline = start + warmupProperties.getMaxDuration().toNanos();
+        int round = 0;
+        try {
+            while (round < warmupProperties.getRounds() && System.nanoTime() < deadline) {
+                shapes.forEach(Runnable::run);
+                round++;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Warm-up failed after {} rounds, continuing without it.", round, e);
+        }
+        completedRounds = round;
+        durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        complete = true;
+        log.info("Warm-up completed {} rounds in {} ms.", completedRounds, durationMillis);
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public int getCompletedRounds() {
+        return completedRounds;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * Builds the query shapes exercised in every round, using values taken from the snapshot so that the
+     * queries return realistic results: the full list, each single filter, a lookup, a small distance matrix
+     * and a small batch.
+     */
+    private List<Runnable> queryShapes(List<AirportDto> airports) {
+        List<String> countryCodes = sample(airports, AirportDto::getCountryCode);
+        List<String> stateCodes = sample(airports, AirportDto::getStateCode);
+        List<String> cityCodes = sample(airports, AirportDto::getCityCode);
+        List<String> airportCodes = sample(airports, AirportDto::getAirportCode);
+        List<String> locatedAirportCodes = sample(airports.stream().filter(a -> a.getLatitude() != null && a.getLongitude() != null).toList(),
+                AirportDto::getAirportCode);
+        List<String> nameFragments = sample(airports, a -> a.getAirportName() != null && a.getAirportName().length() >= 3
+                ? a.getAirportName().substring(0, 3) : null);
+
+        List<Runnable> shapes = new ArrayList<>();
+        int[] next = new int[1];
+        shapes.add(() -> serialize(airportService.getAirports(null, null, null, null, null)));
+        shapes.add(() -> serialize(airportService.getAirports(pick(countryCodes, next), null, null, null, null)));
+        shapes.add(() -> serialize(airportService.getAirports(pick(countryCodes, next), null, pick(stateCodes, next), null, null)));
+        shapes.add(() -> serialize(airportService.getAirports(null, null, null, pick(cityCodes, next), null)));
+        shapes.add(() -> serialize(airportService.getAirports(null, null, null, null, pick(nameFragments, next))));
+        shapes.add(() -> serialize(airportService.getAirportByCode(pick(airportCodes, next)).orElse(null)));
+        if (!locatedAirportCodes.isEmpty()) {
+            shapes.add(() -> serialize(airportDistanceService.getDistanceMatrix(DistanceMatrixRequest.builder()
+                    .origins(locatedAirportCodes).destinations(locatedAirportCodes).build())));
+        }
+        shapes.add(() -> airportBatchService.execute(List.of(
+                AirportQueryDto.builder().countryCode(pick(countryCodes, next)).build(),
+                AirportQueryDto.builder().cityCode(pick(cityCodes, next)).build())).forEach(result -> serialize(result.join())));
+        return shapes;
+    }
+
+    private void serialize(Object value) {
+        try {
+            objectMapper.writeValue(OutputStream.nullOutputStream(), value);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not serialize warm-up result", e);
+        }
+    }
+
+    private static List<String> sample(List<AirportDto> airports, Function<AirportDto, String> field) {
+        return airports.stream().map(field).filter(Objects::nonNull).distinct().limit(SAMPLES_PER_SHAPE).toList();
+    }
+
+    private static String pick(List<String> values, int[] next) {
+        return values.isEmpty() ? null : values.get(next[0]++ % values.size());
+    }
+}
@@ -0,0 +1,171 @@
+package com.qantas.challenge.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qantas.challenge.config.SupplementaryDataProperties;
+import com.qantas.challenge.dto.AirportDto;
+import com.qantas.challenge.dto.DataQualityIssue;
+import com.qantas.challenge.dto.DataQualityReport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Service merging the configured supplementary files into the airports ingested from the external API.
+ * Records are matched by airport code and applied in file order, with field-level precedence: a field listed in
+ * {@code airport.supplementary.override-fields} takes the file's value, and every other field takes it only where
+ * the airport has no value yet. Alternate names are accumulated unless they are listed as an override field.
+ * A record for an airport unknown to the feed adds that airport, provided it has a name, coordinates and a country.
+ * Rejected lines are counted by reason in the report, with capped samples, the same way as rejected feed records.
+ */
+@Slf4j
+@Service
+public class SupplementaryDataService {
+
+    static final String ALTERNATE_NAMES = "alternateNames";
+    static final String INCOMPLETE_NEW_AIRPORT = "Unknown airport missing name, coordinates or country";
+
+    private static final Map<String, Field> FIELDS = new LinkedHashMap<>();
+
+    static {
+        FIELDS.put("airportName", new Field(AirportDto::getAirportName, (a, v) -> a.setAirportName((String) v)));
+        FIELDS.put("latitude", new Field(AirportDto::getLatitude, (a, v) -> a.setLatitude((Double) v)));
+        FIELDS.put("longitude", new Field(AirportDto::getLongitude, (a, v) -> a.setLongitude((Double) v)));
+        FIELDS.put("cityCode", new Field(AirportDto::getCityCode, (a, v) -> a.setCityCode((String) v)));
+        FIELDS.put("cityName", new Field(AirportDto::getCityName, (a, v) -> a.setCityName((String) v)));
+        FIELDS.put("timeZoneName", new Field(AirportDto::getTimeZoneName, (a, v) -> a.setTimeZoneName((String) v)));
+        FIELDS.put("stateCode", new Field(AirportDto::getStateCode, (a, v) -> a.setStateCode((String) v)));
+        FIELDS.put("stateName", new Field(AirportDto::getStateName, (a, v) -> a.setStateName((String) v)));
+        FIELDS.put("countryCode", new Field(AirportDto::getCountryCode, (a, v) -> a.setCountryCode((String) v)));
+        FIELDS.put("countryName", new Field(AirportDto::getCountryName, (a, v) -> a.setCountryName((String) v)));
+        FIELDS.put("regionCode", new Field(AirportDto::getRegionCode, (a, v) -> a.setRegionCode((String) v)));
+        FIELDS.put("regionName", new Field(AirportDto::getRegionName, (a, v) -> a.setRegionName((String) v)));
+    }
+
+    private record Field(Function<AirportDto, Object> getter, BiConsumer<AirportDto, Object> setter) {
+    }
+
+    private final List<Path> files;
+    private final Set<String> overrideFields;
+    private final SupplementaryFileReader reader;
+
+    public SupplementaryDataService(SupplementaryDataProperties properties, ObjectMapper objectMapper) {
+        for (String field : properties.getOverrideFields()) {
+            if (!FIELDS.containsKey(field) && !ALTERNATE_NAMES.equals(field)) {
+                throw new IllegalArgumentException("Unknown supplementary override field: " + field);
+            }
+        }
+        this.files = properties.getFiles().stream().map(Path::of).toList();
+        this.overrideFields = Set.copyOf(properties.getOverrideFields());
+        this.reader = new SupplementaryFileReader(objectMapper, properties.getChunkSize().toBytes());
+    }
+
+    /**
+     * Merges the configured files into the given airports and records the outcome in the report.
+     * A file that cannot be read is logged and skipped, so that it never prevents the feed data from being served.
+     * @param airports The airports ingested from the external API, which are updated in place.
+     * @param report The data-quality report of the ingestion.
+     * @return The merged airports: the feed's airports in feed order, followed by the added ones in file order.
+     */
+    List<AirportDto> merge(List<AirportDto> airports, DataQualityReport report) {
+        if (files.isEmpty()) {
+            return airports;
+        }
+        Map<String, AirportDto> byCode = new LinkedHashMap<>(airports.size() * 2);
+        airports.forEach(airport -> byCode.put(airport.getAirportCode(), airport));
+        if (report.getSupplementaryRejectedByReason() == null) {
+            report.setSupplementaryRejectedByReason(new TreeMap<>());
+        }
+        if (report.getSupplementaryRejectedSamples() == null) {
+            report.setSupplementaryRejectedSamples(new ArrayList<>());
+        }
+
+        for (Path file : files) {
+            long start = System.nanoTime();
+            SupplementaryFileReader.Result result;
+            try {
+                result = reader.read(file);
+            } catch (IOException | RuntimeException e) {
+                log.error("Failed to read supplementary file {}: {}", file, e.toString());
+                continue;
+            }
+
+            String fileName = file.getFileName().toString();
+            int rejected = result.malformed();
+            if (result.malformed() > 0) {
+                report.getSupplementaryRejectedByReason().merge(SupplementaryFileReader.MALFORMED_LINE, result.malformed(), Integer::sum);
+            }
+            for (DataQualityIssue sample : result.malformedSamples()) {
+                addSample(report, sample.getPosition(), null, fileName + ": " + sample.getDetail());
+            }
+
+            int merged = 0;
+            int added = 0;
+            for (int i = 0; i < result.records().size(); i++) {
+                AirportDto record = result.records().get(i);
+                AirportDto existing = record.getAirportCode() != null ? byCode.get(record.getAirportCode()) : null;
+                if (existing != null) {
+                    apply(existing, record);
+                    merged++;
+                } else if (isComplete(record)) {
+                    byCode.put(record.getAirportCode(), record);
+                    added++;
+                } else {
+                    String reason = record.getAirportCode() == null ? AirportIngestionPipeline.MISSING_AIRPORT_CODE : INCOMPLETE_NEW_AIRPORT;
+                    report.getSupplementaryRejectedByReason().merge(reason, 1, Integer::sum);
+                    addSample(report, result.lineNumbers()[i], record.getAirportCode(), fileName + ": " + reason);
+                    rejected++;
+                }
+            }
+
+            report.setSupplementaryReceived(report.getSupplementaryReceived() + result.records().size() + result.malformed());
+            report.setSupplementaryRejected(report.getSupplementaryRejected() + rejected);
+            report.setSupplementaryMerged(report.getSupplementaryMerged() + merged);
+            report.setSupplementaryAdded(report.getSupplementaryAdded() + added);
+            log.info("Merged supplementary file {} in {} ms: {} records merged, {} added, {} rejected.",
+                    file, (System.nanoTime() - start) / 1_000_000, merged, added, rejected);
+        }
+        return new ArrayList<>(byCode.values());
+    }
+
+    private void apply(AirportDto target, AirportDto record) {
+        FIELDS.forEach((name, field) -> {
+            Object value = field.getter().apply(record);
+            if (value != null && (overrideFields.contains(name) || field.getter().apply(target) == null)) {
+                field.setter().accept(target, value);
+            }
+        });
+        List<String> alternateNames = record.getAlternateNames();
+        if (alternateNames != null) {
+            if (overrideFields.contains(ALTERNATE_NAMES) || target.getAlternateNames() == null) {
+                target.setAlternateNames(alternateNames);
+            } else {
+                Set<String> union = new LinkedHashSet<>(target.getAlternateNames());
+                union.addAll(alternateNames);
+                target.setAlternateNames(List.copyOf(union));
+            }
+        }
+    }
+
+    private static void addSample(DataQualityReport report, int lineNumber, String airportCode, String detail) {
+        List<DataQualityIssue> samples = report.getSupplementaryRejectedSamples();
+        if (samples.size() < AirportIngestionPipeline.MAX_SAMPLES) {
+            samples.add(new DataQualityIssue(lineNumber, airportCode, detail));
+        }
+    }
+
+    private static boolean isComplete(AirportDto record) {
+        return record.getAirportCode() != null && record.getAirportName() != null && record.getLatitude() != null
+                && record.getLongitude() != null && record.getCountryCode() != null;
+    }
+}
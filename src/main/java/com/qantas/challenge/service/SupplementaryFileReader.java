@@ -0,0 +1,379 @@
+package com.qantas.challenge.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.qantas.challenge.dto.AirportDto;
+import com.qantas.challenge.dto.DataQualityIssue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Reads supplementary airport records from a local CSV or NDJSON file.
+ * The file is memory-mapped and split into fixed-size chunks, which are parsed in parallel on the common fork-join
+ * pool. A chunk owns every line that starts inside it, so a line crossing a chunk boundary is parsed exactly once,
+ * and the records are returned in file order however the work was split. A file of several hundred megabytes is
+ * therefore neither copied through a stream buffer nor held on the heap as text.
+ * <p>
+ * A CSV file starts with a header row naming its columns after the properties of {@link AirportDto}. Unknown
+ * columns are ignored, quoted values may contain commas and doubled quotes but no line breaks, and the
+ * {@code alternateNames} column separates names with '|'. An NDJSON file holds one airport object per line.
+ */
+final class SupplementaryFileReader {
+
+    /**
+     * The largest supported chunk size. Chunk offsets are int offsets into a mapping of at most 2 GB, which must
+     * also hold the end of the chunk's last line.
+     */
+    static final long MAX_CHUNK_SIZE = 1L << 30;
+
+    private static final int MAX_HEADER_LENGTH = 64 * 1024;
+    private static final int MAX_CANONICAL_VALUES = 4096;
+
+    private static final Map<String, BiConsumer<AirportDto, String>> COLUMNS = Map.ofEntries(
+            Map.entry("airportCode", AirportDto::setAirportCode),
+            Map.entry("airportName", AirportDto::setAirportName),
+            Map.entry("latitude", (airport, value) -> airport.setLatitude(Double.valueOf(value))),
+            Map.entry("longitude", (airport, value) -> airport.setLongitude(Double.valueOf(value))),
+            Map.entry("cityCode", AirportDto::setCityCode),
+            Map.entry("cityName", AirportDto::setCityName),
+            Map.entry("timeZoneName", AirportDto::setTimeZoneName),
+            Map.entry("stateCode", AirportDto::setStateCode),
+            Map.entry("stateName", AirportDto::setStateName),
+            Map.entry("countryCode", AirportDto::setCountryCode),
+            Map.entry("countryName", AirportDto::setCountryName),
+            Map.entry("regionCode", AirportDto::setRegionCode),
+            Map.entry("regionName", AirportDto::setRegionName),
+            Map.entry("alternateNames", (airport, value) -> airport.setAlternateNames(Arrays.asList(value.split("\\|")))));
+
+    /**
+     * The supported file formats, chosen by the file extension.
+     */
+    enum Format {
+        CSV, NDJSON;
+
+        static Format of(Path path) {
+            String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+            if (name.endsWith(".csv")) {
+                return CSV;
+            }
+            if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+                return NDJSON;
+            }
+            throw new IllegalArgumentException("Unsupported supplementary file format: " + path);
+        }
+    }
+
+    static final String MALFORMED_LINE = "Malformed line";
+
+    private static final int MAX_REASON_LENGTH = 200;
+
+    /**
+     * The records of a file in file order with the line number of each, the number of lines that could not be
+     * parsed, and up to {@link AirportIngestionPipeline#MAX_SAMPLES} of those lines with the reason.
+     */
+    record Result(List<AirportDto> records, int[] lineNumbers, int malformed, List<DataQualityIssue> malformedSamples) {
+    }
+
+    private record Chunk(long start, long end) {
+    }
+
+    /**
+     * The outcome of one chunk. Line numbers are relative to the chunk's first line, which is only known once the
+     * lines of all previous chunks have been counted.
+     */
+    private record ChunkResult(List<AirportDto> records, int[] recordLines, int lineCount, int malformed, List<DataQualityIssue> malformedSamples) {
+    }
+
+    private final ObjectReader jsonReader;
+    private final long chunkSize;
+
+    SupplementaryFileReader(ObjectMapper objectMapper, long chunkSize) {
+        if (chunkSize <= 0 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("The supplementary chunk size must be between 1 byte and 1 GB, but was " + chunkSize + " bytes");
+        }
+        this.jsonReader = objectMapper.readerFor(AirportDto.class).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Reads all records of the given file.
+     * @param path The CSV or NDJSON file.
+     * @return The parsed records and the malformed lines.
+     * @throws IOException If the file cannot be read or its CSV header is missing.
+     */
+    Result read(Path path) throws IOException {
+        Format format = Format.of(path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            byte[] header = format == Format.CSV ? readHeader(channel, size) : null;
+            List<BiConsumer<AirportDto, String>> columns = header == null ? null
+                    : Arrays.stream(splitCsv(new String(header, StandardCharsets.UTF_8))).map(name -> COLUMNS.get(name.trim())).toList();
+            long dataStart = header == null ? 0 : Math.min(size, header.length + 1L);
+
+            List<Chunk> chunks = new ArrayList<>();
+            for (long start = dataStart; start < size; start += chunkSize) {
+                chunks.add(new Chunk(start, Math.min(size, start + chunkSize)));
+            }
+            List<ChunkResult> results;
+            try {
+                results = chunks.parallelStream()
+                        .map(chunk -> readChunk(channel, size, dataStart, chunk, columns))
+                        .toList();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            int total = results.stream().mapToInt(result -> result.records().size()).sum();
+            List<AirportDto> records = new ArrayList<>(total);
+            int[] lineNumbers = new int[total];
+            int malformed = 0;
+            List<DataQualityIssue> malformedSamples = new ArrayList<>();
+            int firstLine = header == null ? 1 : 2;
+            for (ChunkResult result : results) {
+                for (int i = 0; i < result.records().size(); i++) {
+                    lineNumbers[records.size()] = firstLine + result.recordLines()[i];
+                    records.add(result.records().get(i));
+                }
+                for (DataQualityIssue sample : result.malformedSamples()) {
+                    if (malformedSamples.size() < AirportIngestionPipeline.MAX_SAMPLES) {
+                        malformedSamples.add(new DataQualityIssue(firstLine + sample.getPosition(), null, sample.getDetail()));
+                    }
+                }
+                malformed += result.malformed();
+                firstLine += result.lineCount();
+            }
+            return new Result(records, lineNumbers, malformed, malformedSamples);
+        }
+    }
+
+    private static byte[] readHeader(FileChannel channel, long size) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, MAX_HEADER_LENGTH));
+        int end = 0;
+        while (end < buffer.limit() && buffer.get(end) != '\n') {
+            end++;
+        }
+        if (end == 0 || (end == buffer.limit() && size > MAX_HEADER_LENGTH)) {
+            throw new IOException("Missing CSV header row");
+        }
+        byte[] header = new byte[end];
+        buffer.get(0, header);
+        return header;
+    }
+
+    /**
+     * Parses every line starting inside the given chunk. The mapping extends to the end of the file, which costs
+     * nothing until the pages are touched, so that the chunk's last line can be read past the chunk's end.
+     */
+    private ChunkResult readChunk(FileChannel channel, long size, long dataStart, Chunk chunk, List<BiConsumer<AirportDto, String>> columns) {
+        // Mapping one byte early reveals whether the chunk starts at the beginning of a line.
+        long mapStart = chunk.start() > dataStart ? chunk.start() - 1 : chunk.start();
+        MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, mapStart, Math.min(size - mapStart, Integer.MAX_VALUE));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int end = (int) (chunk.end() - mapStart);
+        int limit = buffer.limit();
+        int position = 0;
+        if (mapStart < chunk.start()) {
+            // The line in progress at the chunk's start belongs to the previous chunk.
+            while (position < limit && buffer.get(position++) != '\n') {
+            }
+        }
+
+        List<AirportDto> records = new ArrayList<>();
+        int[] recordLines = new int[256];
+        int lineCount = 0;
+        int malformed = 0;
+        List<DataQualityIssue> malformedSamples = new ArrayList<>();
+        byte[] line = new byte[256];
+        Map<String, String> canonical = new HashMap<>();
+        while (position < end) {
+            int lineEnd = position;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int length = lineEnd - position;
+            if (length > 0 && buffer.get(lineEnd - 1) == '\r') {
+                length--;
+            }
+            if (length > line.length) {
+                line = new byte[Math.max(length, line.length * 2)];
+            }
+            buffer.get(position, line, 0, length);
+            position = lineEnd + 1;
+            int lineIndex = lineCount++;
+
+            if (isBlank(line, length)) {
+                continue;
+            }
+            try {
+                AirportDto airport = columns != null ? parseCsv(new String(line, 0, length, StandardCharsets.UTF_8), columns)
+                        : jsonReader.readValue(line, 0, length);
+                if (records.size() == recordLines.length) {
+                    recordLines = Arrays.copyOf(recordLines, recordLines.length * 2);
+                }
+                recordLines[records.size()] = lineIndex;
+                records.add(normalize(airport, canonical));
+            } catch (IOException | RuntimeException e) {
+                malformed++;
+                if (malformedSamples.size() < AirportIngestionPipeline.MAX_SAMPLES) {
+                    malformedSamples.add(new DataQualityIssue(lineIndex, null, MALFORMED_LINE + ": " + describe(e)));
+                }
+            }
+        }
+        return new ChunkResult(records, recordLines, lineCount, malformed, malformedSamples);
+    }
+
+    /**
+     * Describes why a line could not be parsed in a single, bounded line of text.
+     */
+    private static String describe(Exception e) {
+        String message = e instanceof JsonProcessingException jsonException ? jsonException.getOriginalMessage() : e.getMessage();
+        if (message == null) {
+            return e.getClass().getSimpleName();
+        }
+        int lineBreak = message.indexOf('\n');
+        if (lineBreak >= 0) {
+            message = message.substring(0, lineBreak);
+        }
+        return message.length() > MAX_REASON_LENGTH ? message.substring(0, MAX_REASON_LENGTH) : message;
+    }
+
+    private static AirportDto parseCsv(String line, List<BiConsumer<AirportDto, String>> columns) {
+        String[] values = splitCsv(line);
+        if (values.length > columns.size()) {
+            throw new IllegalArgumentException("More values than columns");
+        }
+        AirportDto airport = new AirportDto();
+        for (int i = 0; i < values.length; i++) {
+            BiConsumer<AirportDto, String> column = columns.get(i);
+            String value = values[i].trim();
+            if (column != null && !value.isEmpty()) {
+                column.accept(airport, value);
+            }
+        }
+        return airport;
+    }
+
+    /**
+     * Splits a CSV line into its values, unquoting quoted values. Unquoted values are taken as substrings of the
+     * line, and only a value containing doubled quotes is copied character by character.
+     */
+    static String[] splitCsv(String line) {
+        int length = line.length();
+        int start = line.startsWith("\uFEFF") ? 1 : 0;
+        List<String> values = new ArrayList<>(16);
+        while (true) {
+            int next;
+            if (start < length && line.charAt(start) == '"') {
+                int quote = line.indexOf('"', start + 1);
+                StringBuilder escaped = null;
+                while (quote >= 0 && quote + 1 < length && line.charAt(quote + 1) == '"') {
+                    if (escaped == null) {
+                        escaped = new StringBuilder();
+                    }
+                    escaped.append(line, escaped.isEmpty() ? start + 1 : start, quote + 1);
+                    start = quote + 2;
+                    quote = line.indexOf('"', start);
+                }
+                if (quote < 0) {
+                    throw new IllegalArgumentException("Unterminated quoted value");
+                }
+                next = quote + 1;
+                if (next < length && line.charAt(next) != ',') {
+                    throw new IllegalArgumentException("Unexpected character after quoted value");
+                }
+                values.add(escaped == null ? line.substring(start + 1, quote) : escaped.append(line, start, quote).toString());
+            } else {
+                int comma = line.indexOf(',', start);
+                next = comma < 0 ? length : comma;
+                values.add(line.substring(start, next));
+            }
+            if (next >= length) {
+                return values.toArray(String[]::new);
+            }
+            start = next + 1;
+        }
+    }
+
+    /**
+     * Trims all values and upper-cases the codes, the same normalization the feed records receive. Time zones,
+     * states, countries and regions repeat across most records, so their values are shared through the chunk's
+     * canonical map, which keeps the heap held by the records of a large file well below the file's own size.
+     */
+    private static AirportDto normalize(AirportDto airport, Map<String, String> canonical) {
+        airport.setAirportCode(code(airport.getAirportCode(), null));
+        airport.setCityCode(code(airport.getCityCode(), null));
+        airport.setStateCode(code(airport.getStateCode(), canonical));
+        airport.setCountryCode(code(airport.getCountryCode(), canonical));
+        airport.setRegionCode(code(airport.getRegionCode(), canonical));
+        airport.setAirportName(name(airport.getAirportName(), null));
+        airport.setCityName(name(airport.getCityName(), null));
+        airport.setTimeZoneName(name(airport.getTimeZoneName(), canonical));
+        airport.setStateName(name(airport.getStateName(), canonical));
+        airport.setCountryName(name(airport.getCountryName(), canonical));
+        airport.setRegionName(name(airport.getRegionName(), canonical));
+        if (airport.getAlternateNames() != null) {
+            List<String> alternateNames = airport.getAlternateNames().stream()
+                    .map(name -> name(name, null))
+                    .filter(name -> name != null)
+                    .distinct()
+                    .toList();
+            airport.setAlternateNames(alternateNames.isEmpty() ? null : alternateNames);
+        }
+        return airport;
+    }
+
+    private static String code(String value, Map<String, String> canonical) {
+        String name = name(value, null);
+        return name != null ? canonical(name.toUpperCase(Locale.ROOT), canonical) : null;
+    }
+
+    private static String name(String value, Map<String, String> canonical) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : canonical(trimmed, canonical);
+    }
+
+    private static String canonical(String value, Map<String, String> canonical) {
+        if (canonical == null) {
+            return value;
+        }
+        String existing = canonical.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        if (canonical.size() < MAX_CANONICAL_VALUES) {
+            canonical.put(value, value);
+        }
+        return value;
+    }
+
+    private static boolean isBlank(byte[] line, int length) {
+        for (int i = 0; i < length; i++) {
+            if (line[i] != ' ' && line[i] != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
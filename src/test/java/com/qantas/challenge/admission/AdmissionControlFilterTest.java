@@ -0,0 +1,275 @@
+package com.qantas.challenge.admission;
+
+import com.qantas.challenge.config.AdmissionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the AdmissionControlFilter.
+ * A controllable clock is used so that token refill can be tested without sleeping.
+ */
+class AdmissionControlFilterTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+
+    private AdmissionProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private AdmissionControlFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AdmissionProperties();
+        properties.setTokensPerSecond(1);
+        properties.setBurst(10);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new AdmissionControlFilter(properties, meterRegistry, clock::get);
+    }
+
+    /**
+     * Tests that requests are classified by their cost.
+     */
+    @Test
+    void costClass_classifiesAirportRequests() {
+        assertThat(CostClass.of(request("/api/v1/airports", "client"))).isEqualTo(CostClass.FULL_LIST);
+        MockHttpServletRequest filtered = request("/api/v1/airports", "client");
+        filtered.setParameter("countryCode", "AU");
+        assertThat(CostClass.of(filtered)).isEqualTo(CostClass.FILTERED);
+        MockHttpServletRequest blank = request("/api/v1/airports", "client");
+        blank.setParameter("countryCode", "");
+        assertThat(CostClass.of(blank)).isEqualTo(CostClass.FULL_LIST);
+        assertThat(CostClass.of(request("/api/v1/airports/SYD", "client"))).isEqualTo(CostClass.LOOKUP);
+        MockHttpServletRequest distances = request("/api/v1/airports/distances", "client");
+        distances.setMethod("POST");
+        assertThat(CostClass.of(distances)).isEqualTo(CostClass.BULK);
+        MockHttpServletRequest batch = request("/api/v1/airports/batch", "client");
+        batch.setMethod("POST");
+        assertThat(CostClass.of(batch)).isEqualTo(CostClass.BULK);
+        assertThat(CostClass.of(request("/api/v1/internal/airports/snapshot", "client"))).isEqualTo(CostClass.SNAPSHOT);
+        assertThat(CostClass.of(request("/api/v1/internal/airports/snapshot;x=1", "client"))).isEqualTo(CostClass.SNAPSHOT);
+        assertThat(CostClass.of(request("/api/v1/admin/airports/SYD", "client"))).isNull();
+    }
+
+    /**
+     * Tests that variants of a path which Spring MVC still routes to the same handler, such as a path with
+     * semicolon parameters or percent-encoded characters, are classified like the path itself.
+     */
+    @Test
+    void costClass_whenPathHasParametersOrEncoding_classifiesMatchedPath() {
+        assertThat(CostClass.of(request("/api/v1/airports;x=1", "client"))).isEqualTo(CostClass.FULL_LIST);
+        assertThat(CostClass.of(request("/api/v1;x=1/airports/", "client"))).isEqualTo(CostClass.FULL_LIST);
+        assertThat(CostClass.of(request("/api/v1/%61irports", "client"))).isEqualTo(CostClass.FULL_LIST);
+        assertThat(CostClass.of(request("//api/v1/airports", "client"))).isEqualTo(CostClass.FULL_LIST);
+        assertThat(CostClass.of(request("/api/v1/airports/SYD;jsessionid=1", "client"))).isEqualTo(CostClass.LOOKUP);
+        MockHttpServletRequest batch = request("/api/v1/airports/batch;x=1", "client");
+        batch.setMethod("POST");
+        assertThat(CostClass.of(batch)).isEqualTo(CostClass.BULK);
+    }
+
+    /**
+     * Tests that a client cannot escape its rate limit by adding semicolon parameters to the path.
+     */
+    @Test
+    void doFilter_whenPathHasSemicolonParameters_isLimited() throws Exception {
+        // Given
+        assertThat(perform("/api/v1/airports", "greedy").getStatus()).isEqualTo(200);
+
+        // When
+        MockHttpServletResponse response = perform("/api/v1/airports;x=1", "greedy");
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(429);
+    }
+
+    /**
+     * Tests that a client exceeding its bucket is rejected with 429 and a Retry-After header,
+     * and that the rejection is counted.
+     */
+    @Test
+    void doFilter_whenClientExceedsRate_returnsTooManyRequests() throws Exception {
+        // Given: a full-list request costs 10 tokens, which is the whole burst.
+        assertThat(perform("/api/v1/airports", "greedy").getStatus()).isEqualTo(200);
+
+        // When
+        MockHttpServletResponse response = perform("/api/v1/airports", "greedy");
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("10");
+        assertThat(meterRegistry.counter("airport.admission.shed", "cost", "full_list", "reason", "rate_limited").count()).isEqualTo(1);
+    }
+
+    /**
+     * Tests that the bucket refills over time and that clients do not share buckets.
+     */
+    @Test
+    void doFilter_whenBucketRefills_admitsAgain() throws Exception {
+        // Given
+        perform("/api/v1/airports", "greedy");
+        assertThat(perform("/api/v1/airports/SYD", "greedy").getStatus()).isEqualTo(429);
+        assertThat(perform("/api/v1/airports/SYD", "other").getStatus()).isEqualTo(200);
+
+        // When: one token has been refilled.
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        // Then
+        assertThat(perform("/api/v1/airports/SYD", "greedy").getStatus()).isEqualTo(200);
+        assertThat(perform("/api/v1/airports/SYD", "greedy").getStatus()).isEqualTo(429);
+    }
+
+    /**
+     * Tests that a client cannot escape its rate limit by sending a new client id header with every request,
+     * because the header is only read when one is configured.
+     */
+    @Test
+    void doFilter_whenClientIdHeaderIsNotConfigured_identifiesClientByRemoteAddress() throws Exception {
+        // Given
+        MockHttpServletRequest first = request("/api/v1/airports", "10.0.0.1");
+        first.addHeader("X-Client-Id", "first");
+        filter.doFilter(first, new MockHttpServletResponse(), new MockFilterChain());
+
+        // When
+        MockHttpServletRequest second = request("/api/v1/airports", "10.0.0.1");
+        second.addHeader("X-Client-Id", "second");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(second, response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(429);
+    }
+
+    /**
+     * Tests that a configured client id header, set by a trusted gateway, identifies clients behind one address.
+     */
+    @Test
+    void doFilter_whenClientIdHeaderIsConfigured_identifiesClientByHeader() throws Exception {
+        // Given
+        properties.setClientIdHeader("X-Client-Id");
+        MockHttpServletRequest first = request("/api/v1/airports", "10.0.0.1");
+        first.addHeader("X-Client-Id", "first");
+        filter.doFilter(first, new MockHttpServletResponse(), new MockFilterChain());
+
+        // When
+        MockHttpServletRequest second = request("/api/v1/airports", "10.0.0.1");
+        second.addHeader("X-Client-Id", "second");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(second, response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    /**
+     * Tests that a cost class at its concurrency limit sheds further requests with 503,
+     * while other cost classes are still admitted.
+     */
+    @Test
+    void doFilter_whenCostClassIsSaturated_returnsServiceUnavailable() throws Exception {
+        // Given: only one full-list request may run at a time.
+        properties.getFullList().setMaxConcurrent(1);
+        filter = new AdmissionControlFilter(properties, meterRegistry, clock::get);
+        MockHttpServletResponse[] nested = new MockHttpServletResponse[2];
+        FilterChain inFlight = (request, response) -> {
+            nested[0] = perform("/api/v1/airports", "second");
+            nested[1] = perform("/api/v1/airports/SYD", "third");
+        };
+
+        // When: two more requests arrive while the first one is still being served.
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(request("/api/v1/airports", "first"), first, inFlight);
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(nested[0].getStatus()).isEqualTo(503);
+        assertThat(nested[0].getHeader("Retry-After")).isEqualTo("1");
+        assertThat(nested[1].getStatus()).isEqualTo(200);
+        assertThat(perform("/api/v1/airports", "fourth").getStatus()).isEqualTo(200);
+    }
+
+    /**
+     * Tests that a request shed because the server is overloaded does not cost the client any tokens.
+     */
+    @Test
+    void doFilter_whenShedForOverload_refundsTokens() throws Exception {
+        // Given: only one full-list request may run at a time, and a full-list request costs half of the burst.
+        properties.getFullList().setMaxConcurrent(1);
+        properties.getFullList().setTokens(5);
+        filter = new AdmissionControlFilter(properties, meterRegistry, clock::get);
+        MockHttpServletResponse[] nested = new MockHttpServletResponse[2];
+        FilterChain inFlight = (request, response) -> {
+            nested[0] = perform("/api/v1/airports", "client");
+            nested[1] = perform("/api/v1/airports", "client");
+        };
+
+        // When: the client's further requests are shed while another client's request is in flight.
+        filter.doFilter(request("/api/v1/airports", "other"), new MockHttpServletResponse(), inFlight);
+
+        // Then: the client's bucket is still full, so it can send two full-list requests.
+        assertThat(nested[0].getStatus()).isEqualTo(503);
+        assertThat(nested[1].getStatus()).isEqualTo(503);
+        assertThat(perform("/api/v1/airports", "client").getStatus()).isEqualTo(200);
+        assertThat(perform("/api/v1/airports", "client").getStatus()).isEqualTo(200);
+    }
+
+    /**
+     * Tests that a streamed response keeps its permit until the asynchronous processing completes.
+     */
+    @Test
+    void doFilter_whenResponseIsStreamed_holdsPermitUntilCompletion() throws Exception {
+        // Given
+        properties.getBulk().setMaxConcurrent(1);
+        properties.setBurst(100);
+        filter = new AdmissionControlFilter(properties, meterRegistry, clock::get);
+        MockHttpServletRequest streamed = request("/api/v1/airports/batch", "client");
+        streamed.setMethod("POST");
+        streamed.setAsyncSupported(true);
+
+        // When: the request thread returns while the response is still being streamed.
+        filter.doFilter(streamed, new MockHttpServletResponse(), (request, response) -> request.startAsync());
+
+        // Then
+        MockHttpServletRequest next = request("/api/v1/airports/batch", "client");
+        next.setMethod("POST");
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(next, rejected, new MockFilterChain());
+        assertThat(rejected.getStatus()).isEqualTo(503);
+
+        streamed.getAsyncContext().complete();
+        MockHttpServletResponse admitted = new MockHttpServletResponse();
+        filter.doFilter(next, admitted, new MockFilterChain());
+        assertThat(admitted.getStatus()).isEqualTo(200);
+    }
+
+    /**
+     * Tests that requests outside the airport query endpoints are never limited.
+     */
+    @Test
+    void doFilter_whenPathIsNotAirportQuery_isNotLimited() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            assertThat(perform("/api/v1/admin/airports/SYD", "admin").getStatus()).isEqualTo(200);
+        }
+    }
+
+    private MockHttpServletResponse perform(String uri, String clientId) throws IOException, ServletException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(uri, clientId), response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String uri, String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setRemoteAddr(clientId);
+        return request;
+    }
+}
@@ -0,0 +1,38 @@
+package com.qantas.challenge.config;
+
+import com.qantas.challenge.dto.AirportDto;
+import com.qantas.challenge.dto.AirportQueryDto;
+import com.qantas.challenge.dto.AirportQueryResultDto;
+import com.qantas.challenge.dto.source.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the AirportRuntimeHints.
+ * Verifies that every DTO Jackson binds outside of a controller signature is available to a native image.
+ */
+class AirportRuntimeHintsTest {
+
+    @Test
+    void registerHints_registersExternalApiPeerAndBatchDtos() throws NoSuchMethodException {
+        // Given
+        RuntimeHints hints = new RuntimeHints();
+
+        // When
+        new AirportRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // Then
+        for (Class<?> type : new Class<?>[]{QantasApiAirport.class, Location.class, City.class, State.class, Country.class, Region.class, AirportDto.class,
+                AirportQueryDto.class, AirportQueryResultDto.class}) {
+            assertThat(RuntimeHintsPredicates.reflection().onType(type)).as(type.getSimpleName()).accepts(hints);
+            assertThat(RuntimeHintsPredicates.reflection().onConstructor(type.getDeclaredConstructor())).as(type.getSimpleName()).accepts(hints);
+        }
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(QantasApiAirport.class.getMethod("setCity", City.class))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(City.class.getMethod("setTimeZoneName", String.class))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(QantasApiAirport[].class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(AirportQueryResultDto.class.getMethod("getAirports"))).accepts(hints);
+    }
+}
@@ -2,13 +2,22 @@ package com.qantas.challenge.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.qantas.challenge.dto.AirportDto;
+import com.qantas.challenge.dto.DataQualityIssue;
+import com.qantas.challenge.dto.DataQualityReport;
+import com.qantas.challenge.service.AirportService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 import static org.hamcrest.Matchers.is;
+import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -26,6 +35,9 @@ public class AirportAdminControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @MockitoBean
+    private AirportService airportService;
+
     /**
      * Tests the POST /api/v1/admin/airports endpoint for creating an airport.
      * It should return a 201 Created status and a Location header.
@@ -87,4 +99,36 @@ public class AirportAdminControllerTest {
         mockMvc.perform(delete("/api/v1/admin/airports/TEST"))
                 .andExpect(status().isNoContent());
     }
+
+    /**
+     * Tests the GET /api/v1/admin/airports/data-quality endpoint after an ingestion.
+     * It should return the report rather than being treated as an airport code.
+     */
+    @Test
+    void getDataQualityReport_whenAvailable_returnsReport() throws Exception {
+        DataQualityReport report = DataQualityReport.builder()
+                .received(3).accepted(1).rejected(1).duplicates(1)
+                .rejectedByReason(Map.of("Missing city", 1))
+                .rejectedSamples(List.of(new DataQualityIssue(2, "XXX", "Missing city")))
+                .build();
+        given(airportService.getDataQualityReport()).willReturn(Optional.of(report));
+
+        mockMvc.perform(get("/api/v1/admin/airports/data-quality"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted", is(1)))
+                .andExpect(jsonPath("$.rejectedByReason['Missing city']", is(1)))
+                .andExpect(jsonPath("$.rejectedSamples[0].airportCode", is("XXX")));
+    }
+
+    /**
+     * Tests the GET /api/v1/admin/airports/data-quality endpoint on a replica without an ingestion.
+     * It should return a 404 Not Found status.
+     */
+    @Test
+    void getDataQualityReport_whenUnavailable_returnsNotFound() throws Exception {
+        given(airportService.getDataQualityReport()).willReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/admin/airports/data-quality"))
+                .andExpect(status().isNotFound());
+    }
 }
\ No newline at end of file
@@ -1,21 +1,36 @@
 package com.qantas.challenge.controller;
 
 import com.qantas.challenge.dto.AirportDto;
+import com.qantas.challenge.dto.AirportQueryDto;
+import com.qantas.challenge.dto.AirportQueryResultDto;
+import com.qantas.challenge.dto.DistanceMatrixDto;
+import com.qantas.challenge.dto.DistanceMatrixRequest;
+import com.qantas.challenge.service.AirportBatchService;
+import com.qantas.challenge.service.AirportDistanceService;
 import com.qantas.challenge.service.AirportService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -32,6 +47,12 @@ class AirportControllerTest {
     @MockitoBean
     private AirportService airportService;
 
+    @MockitoBean
+    private AirportDistanceService airportDistanceService;
+
+    @MockitoBean
+    private AirportBatchService airportBatchService;
+
     /**
      * Tests the GET /api/v1/airports endpoint with no filter parameters.
      * It should return all airports provided by the service.
@@ -153,4 +174,86 @@ class AirportControllerTest {
         mockMvc.perform(get("/api/v1/airports?foo=bar"))
                 .andExpect(status().isOk());
     }
+
+    /**
+     * Tests the GET /api/v1/airports/{airportCode} endpoint for a known code.
+     */
+    @Test
+    void getAirportByCode_whenFound_returnsAirport() throws Exception {
+        // Given
+        given(airportService.getAirportByCode("syd"))
+                .willReturn(Optional.of(AirportDto.builder().airportCode("SYD").airportName("Sydney").build()));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/airports/syd"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.airportCode", is("SYD")));
+    }
+
+    /**
+     * Tests the GET /api/v1/airports/{airportCode} endpoint for an unknown code.
+     * It should return a 404 Not Found status.
+     */
+    @Test
+    void getAirportByCode_whenNotFound_returnsNotFound() throws Exception {
+        // Given
+        given(airportService.getAirportByCode("XYZ")).willReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/airports/XYZ"))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * Tests the POST /api/v1/airports/distances endpoint.
+     * It should return the distance matrix computed by the service.
+     */
+    @Test
+    void getDistanceMatrix_returnsMatrix() throws Exception {
+        // Given
+        given(airportDistanceService.getDistanceMatrix(any(DistanceMatrixRequest.class))).willReturn(DistanceMatrixDto.builder()
+                .origins(List.of("SYD"))
+                .destinations(List.of("MEL"))
+                .distances(new double[][]{{705.4}})
+                .build());
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/airports/distances")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"origins\":[\"SYD\"],\"destinations\":[\"MEL\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.distances[0][0]", is(705.4)))
+                .andExpect(jsonPath("$.pairs").doesNotExist());
+    }
+
+    /**
+     * Tests the POST /api/v1/airports/batch endpoint.
+     * It should stream one entry per distinct query, in order, as a JSON array.
+     */
+    @Test
+    void getAirportsBatch_streamsGroupedResults() throws Exception {
+        // Given
+        AirportDto sydney = AirportDto.builder().airportCode("SYD").build();
+        given(airportBatchService.execute(anyList())).willReturn(List.of(
+                CompletableFuture.completedFuture(new AirportQueryResultDto(List.of("a", "c"),
+                        AirportQueryDto.builder().countryCode("AU").build(), 1, List.of(sydney), null)),
+                CompletableFuture.completedFuture(new AirportQueryResultDto(List.of("b"),
+                        AirportQueryDto.builder().countryCode("US").build(), 0, List.of(), null))));
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/v1/airports/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"id\":\"a\",\"countryCode\":\"AU\"},{\"id\":\"b\",\"countryCode\":\"US\"},{\"id\":\"c\",\"countryCode\":\"au\"}]"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].ids", hasSize(2)))
+                .andExpect(jsonPath("$[0].query.countryCode", is("AU")))
+                .andExpect(jsonPath("$[0].airports[0].airportCode", is("SYD")))
+                .andExpect(jsonPath("$[1].count", is(0)));
+    }
 }
\ No newline at end of file
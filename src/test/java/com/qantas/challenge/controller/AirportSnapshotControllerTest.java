@@ -0,0 +1,102 @@
+package com.qantas.challenge.controller;
+
+import com.qantas.challenge.config.ClusterProperties;
+import com.qantas.challenge.dto.AirportDto;
+import com.qantas.challenge.service.AirportService;
+import com.qantas.challenge.service.AirportSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the AirportSnapshotController.
+ * This class tests the version/ETag handshake used by follower replicas in cluster mode.
+ */
+@WebMvcTest(AirportSnapshotController.class)
+class AirportSnapshotControllerTest {
+
+    private static final String SNAPSHOT_URL = "/api/v1/internal/airports/snapshot";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private AirportService airportService;
+
+    @MockitoBean
+    private ClusterProperties clusterProperties;
+
+    @BeforeEach
+    void setUp() {
+        given(clusterProperties.isEnabled()).willReturn(true);
+    }
+
+    /**
+     * Tests that the snapshot is returned together with its version as the ETag.
+     */
+    @Test
+    void getSnapshot_whenLoaded_returnsAirportsWithETag() throws Exception {
+        // Given
+        given(airportService.getSnapshot()).willReturn(AirportSnapshot.of("v1", List.of(AirportDto.builder().airportCode("SYD").build())));
+
+        // When & Then
+        mockMvc.perform(get(SNAPSHOT_URL))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"v1\""))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].airportCode", is("SYD")));
+    }
+
+    /**
+     * Tests that a caller already holding the current version receives a 304 without a body.
+     */
+    @Test
+    void getSnapshot_whenVersionMatches_returnsNotModified() throws Exception {
+        // Given
+        given(airportService.getSnapshot()).willReturn(AirportSnapshot.of("v1", List.of(AirportDto.builder().airportCode("SYD").build())));
+
+        // When & Then
+        mockMvc.perform(get(SNAPSHOT_URL).header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    /**
+     * Tests that a replica without data reports itself unavailable, so followers fall back to the external API.
+     */
+    @Test
+    void getSnapshot_whenNotLoaded_returnsServiceUnavailable() throws Exception {
+        // Given
+        given(airportService.getSnapshot()).willReturn(AirportSnapshot.EMPTY);
+
+        // When & Then
+        mockMvc.perform(get(SNAPSHOT_URL))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    /**
+     * Tests that the snapshot is not served outside cluster mode, where no peer needs it.
+     */
+    @Test
+    void getSnapshot_whenClusterModeIsDisabled_returnsNotFound() throws Exception {
+        // Given
+        given(clusterProperties.isEnabled()).willReturn(false);
+        given(airportService.getSnapshot()).willReturn(AirportSnapshot.of("v1", List.of(AirportDto.builder().airportCode("SYD").build())));
+
+        // When & Then
+        mockMvc.perform(get(SNAPSHOT_URL))
+                .andExpect(status().isNotFound());
+    }
+}
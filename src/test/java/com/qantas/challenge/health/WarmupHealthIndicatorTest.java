@@ -0,0 +1,62 @@
+package com.qantas.challenge.health;
+
+import com.qantas.challenge.dto.AirportDto;
+import com.qantas.challenge.service.AirportService;
+import com.qantas.challenge.service.AirportSnapshot;
+import com.qantas.challenge.service.AirportWarmupService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Unit tests for the WarmupHealthIndicator.
+ * Readiness must only be reported once the cache is loaded and warm-up has completed.
+ */
+@ExtendWith(MockitoExtension.class)
+class WarmupHealthIndicatorTest {
+
+    @Mock
+    private AirportService airportService;
+
+    @Mock
+    private AirportWarmupService airportWarmupService;
+
+    private WarmupHealthIndicator healthIndicator;
+
+    @BeforeEach
+    void setUp() {
+        healthIndicator = new WarmupHealthIndicator(airportService, airportWarmupService);
+    }
+
+    @Test
+    void health_whenCacheIsEmpty_isOutOfService() {
+        given(airportService.getSnapshot()).willReturn(AirportSnapshot.EMPTY);
+
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+    }
+
+    @Test
+    void health_whenWarmupIsRunning_isOutOfService() {
+        given(airportService.getSnapshot()).willReturn(AirportSnapshot.of(List.of(AirportDto.builder().airportCode("SYD").build())));
+        given(airportWarmupService.isComplete()).willReturn(false);
+
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+    }
+
+    @Test
+    void health_whenLoadedAndWarm_isUp() {
+        given(airportService.getSnapshot()).willReturn(AirportSnapshot.of(List.of(AirportDto.builder().airportCode("SYD").build())));
+        given(airportWarmupService.isComplete()).willReturn(true);
+
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(healthIndicator.health().getDetails()).containsEntry("cacheSize", 1);
+    }
+}
@@ -0,0 +1,125 @@
+package com.qantas.challenge.service;
+
+import com.qantas.challenge.dto.AirportDto;
+import com.qantas.challenge.dto.AirportQueryDto;
+import com.qantas.challenge.dto.AirportQueryResultDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for the AirportBatchService.
+ * Verifies that identical queries are executed once and that a batch uses a single snapshot.
+ */
+@ExtendWith(MockitoExtension.class)
+class AirportBatchServiceTest {
+
+    @Mock
+    private AirportService airportService;
+
+    private AirportBatchService airportBatchService;
+
+    @BeforeEach
+    void setUp() {
+        airportBatchService = new AirportBatchService(airportService, 3);
+    }
+
+    /**
+     * Tests that queries differing only in letter case or blank filters are grouped, keeping request order,
+     * and that every query runs against the same snapshot.
+     */
+    @Test
+    void execute_groupsIdenticalQueriesAgainstOneSnapshot() {
+        // Given
+        AirportSnapshot snapshot = AirportSnapshot.of(List.of(AirportDto.builder().airportCode("SYD").build()));
+        given(airportService.getSnapshot()).willReturn(snapshot);
+        given(airportService.getAirports(same(snapshot), any(), any(), any(), any(), any()))
+                .willReturn(List.of(AirportDto.builder().airportCode("SYD").build()));
+        List<AirportQueryDto> queries = List.of(
+                AirportQueryDto.builder().id("first").countryCode("AU").build(),
+                AirportQueryDto.builder().airportName("Sydney").build(),
+                AirportQueryDto.builder().countryCode("au").stateCode(" ").build());
+
+        // When
+        List<AirportQueryResultDto> results = airportBatchService.execute(queries).stream().map(CompletableFuture::join).toList();
+
+        // Then
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).getIds()).containsExactly("first", "2");
+        assertThat(results.get(0).getQuery().getCountryCode()).isEqualTo("AU");
+        assertThat(results.get(0).getQuery().getStateCode()).isNull();
+        assertThat(results.get(0).getCount()).isEqualTo(1);
+        assertThat(results.get(1).getIds()).containsExactly("1");
+        assertThat(results.get(1).getQuery().getAirportName()).isEqualTo("sydney");
+        verify(airportService).getAirports(snapshot, "AU", null, null, null, null);
+        verify(airportService).getAirports(snapshot, null, null, null, null, "sydney");
+        verify(airportService, times(1)).getSnapshot();
+    }
+
+    /**
+     * Tests that a failing query is reported as an error entry, so that the streamed batch stays valid JSON and the
+     * other queries are still answered.
+     */
+    @Test
+    void execute_whenQueryFails_completesWithErrorEntry() {
+        // Given
+        AirportSnapshot snapshot = AirportSnapshot.of(List.of(AirportDto.builder().airportCode("SYD").build()));
+        given(airportService.getSnapshot()).willReturn(snapshot);
+        given(airportService.getAirports(same(snapshot), eq("AU"), any(), any(), any(), any()))
+                .willReturn(List.of(AirportDto.builder().airportCode("SYD").build()));
+        given(airportService.getAirports(same(snapshot), eq("US"), any(), any(), any(), any()))
+                .willThrow(new IllegalStateException("boom"));
+
+        // When
+        List<AirportQueryResultDto> results = airportBatchService.execute(List.of(
+                AirportQueryDto.builder().countryCode("AU").build(),
+                AirportQueryDto.builder().countryCode("US").build())).stream().map(CompletableFuture::join).toList();
+
+        // Then
+        assertThat(results.get(0).getError()).isNull();
+        assertThat(results.get(0).getCount()).isEqualTo(1);
+        assertThat(results.get(1).getError()).isEqualTo("The query could not be executed.");
+        assertThat(results.get(1).getAirports()).isEmpty();
+        assertThat(results.get(1).getIds()).containsExactly("1");
+    }
+
+    /**
+     * Tests that empty and oversized batches are rejected.
+     */
+    @Test
+    void execute_whenBatchIsEmptyOrTooLarge_throwsBadRequest() {
+        assertThatThrownBy(() -> airportBatchService.execute(List.of()))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("At least one query");
+        assertThatThrownBy(() -> airportBatchService.execute(Collections.nCopies(4, new AirportQueryDto())))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("at most 3");
+    }
+
+    /**
+     * Tests that a null entry in the batch is rejected as a bad request rather than failing with an internal error.
+     */
+    @Test
+    void execute_whenQueryIsNull_throwsBadRequest() {
+        assertThatThrownBy(() -> airportBatchService.execute(Arrays.asList(new AirportQueryDto(), null)))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("position 1");
+    }
+}
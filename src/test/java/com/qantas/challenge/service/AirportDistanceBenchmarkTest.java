@@ -0,0 +1,97 @@
+package com.qantas.challenge.service;
+
+import com.qantas.challenge.dto.AirportDto;
+import com.qantas.challenge.dto.DistanceMatrixDto;
+import com.qantas.challenge.dto.DistanceMatrixRequest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Benchmark for the distance matrix at 1,000 x 1,000 airport pairs.
+ * It compares computing the distances from the boxed coordinates of each AirportDto, as clients used to do,
+ * with the snapshot's precomputed index, both sequentially and in parallel.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class AirportDistanceBenchmarkTest {
+
+    private static final int SIZE = 1_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    @Test
+    void distanceMatrix_1000x1000() {
+        // Given: 1,000 airports at random positions.
+        Random random = new Random(42);
+        List<AirportDto> airports = new ArrayList<>(SIZE);
+        List<String> codes = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            String code = "A" + i;
+            codes.add(code);
+            airports.add(AirportDto.builder()
+                    .airportCode(code)
+                    .latitude(random.nextDouble() * 180 - 90)
+                    .longitude(random.nextDouble() * 360 - 180)
+                    .build());
+        }
+        AirportService airportService = mock(AirportService.class);
+        given(airportService.getSnapshot()).willReturn(AirportSnapshot.of(airports));
+        DistanceMatrixRequest request = DistanceMatrixRequest.builder().origins(codes).destinations(codes).build();
+        AirportDistanceService sequential = new AirportDistanceService(airportService, Integer.MAX_VALUE, SIZE * SIZE);
+        AirportDistanceService parallel = new AirportDistanceService(airportService, 0, SIZE * SIZE);
+
+        // When
+        double[][] baseline = haversineFromDtos(airports);
+        double baselineMillis = measure(() -> haversineFromDtos(airports));
+        double sequentialMillis = measure(() -> sequential.getDistanceMatrix(request));
+        double parallelMillis = measure(() -> parallel.getDistanceMatrix(request));
+
+        // Then
+        System.out.printf("Distance matrix %dx%d (%d cores): haversine from DTOs %.1f ms, index sequential %.1f ms, index parallel %.1f ms%n",
+                SIZE, SIZE, Runtime.getRuntime().availableProcessors(), baselineMillis, sequentialMillis, parallelMillis);
+        DistanceMatrixDto result = parallel.getDistanceMatrix(request);
+        for (int row = 0; row < SIZE; row += 97) {
+            for (int column = 0; column < SIZE; column += 89) {
+                assertThat(result.getDistances()[row][column]).isCloseTo(baseline[row][column], within(1e-6));
+            }
+        }
+    }
+
+    private static double measure(Runnable task) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - start) / 1e6 / MEASURED_ROUNDS;
+    }
+
+    private static double[][] haversineFromDtos(List<AirportDto> airports) {
+        double[][] matrix = new double[airports.size()][airports.size()];
+        for (int row = 0; row < airports.size(); row++) {
+            AirportDto origin = airports.get(row);
+            for (int column = 0; column < airports.size(); column++) {
+                AirportDto destination = airports.get(column);
+                double latitude1 = Math.toRadians(origin.getLatitude());
+                double latitude2 = Math.toRadians(destination.getLatitude());
+                double deltaLatitude = latitude2 - latitude1;
+                double deltaLongitude = Math.toRadians(destination.getLongitude() - origin.getLongitude());
+                double a = Math.pow(Math.sin(deltaLatitude / 2), 2)
+                        + Math.cos(latitude1) * Math.cos(latitude2) * Math.pow(Math.sin(deltaLongitude / 2), 2);
+                matrix[row][column] = 2 * AirportGeoIndex.EARTH_RADIUS_KM * Math.asin(Math.sqrt(a));
+            }
+        }
+        return matrix;
+    }
+}
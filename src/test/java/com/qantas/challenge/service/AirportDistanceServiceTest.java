@@ -0,0 +1,126 @@
+package com.qantas.challenge.service;
+
+import com.qantas.challenge.dto.AirportDto;
+import com.qantas.challenge.dto.DistanceMatrixDto;
+import com.qantas.challenge.dto.DistanceMatrixRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * Unit tests for the AirportDistanceService.
+ * Distances are checked against reference values computed with the haversine formula.
+ */
+@ExtendWith(MockitoExtension.class)
+class AirportDistanceServiceTest {
+
+    @Mock
+    private AirportService airportService;
+
+    private AirportDistanceService airportDistanceService;
+
+    @BeforeEach
+    void setUp() {
+        airportDistanceService = new AirportDistanceService(airportService, 4, 100);
+        lenient().when(airportService.getSnapshot()).thenReturn(AirportSnapshot.of(List.of(
+                airport("SYD", -33.946, 151.177),
+                airport("MEL", -37.67, 144.84),
+                airport("BNE", -27.38, 153.12),
+                AirportDto.builder().airportCode("XXX").build()
+        )));
+    }
+
+    /**
+     * Tests that the matrix has one row per origin and one column per destination, with correct distances.
+     */
+    @Test
+    void getDistanceMatrix_returnsGreatCircleDistances() {
+        // When
+        DistanceMatrixDto result = airportDistanceService.getDistanceMatrix(request(List.of("SYD", "mel"), List.of("SYD", "MEL", "BNE")));
+
+        // Then
+        assertThat(result.getOrigins()).containsExactly("SYD", "mel");
+        assertThat(result.getDistances()).hasNumberOfRows(2);
+        assertThat(result.getDistances()[0][0]).isEqualTo(0.0);
+        assertThat(result.getDistances()[0][1]).isCloseTo(705.42, within(0.01));
+        assertThat(result.getDistances()[0][2]).isCloseTo(753.34, within(0.01));
+        assertThat(result.getDistances()[1][0]).isEqualTo(result.getDistances()[0][1]);
+        assertThat(result.getPairs()).isNull();
+    }
+
+    /**
+     * Tests that the pair format lists every origin/destination combination.
+     */
+    @Test
+    void getDistanceMatrix_whenPairFormat_returnsPairList() {
+        // Given
+        DistanceMatrixRequest request = request(List.of("SYD"), List.of("MEL", "BNE"));
+        request.setFormat(DistanceMatrixRequest.Format.PAIRS);
+
+        // When
+        DistanceMatrixDto result = airportDistanceService.getDistanceMatrix(request);
+
+        // Then
+        assertThat(result.getDistances()).isNull();
+        assertThat(result.getPairs()).hasSize(2);
+        assertThat(result.getPairs().get(1).getOrigin()).isEqualTo("SYD");
+        assertThat(result.getPairs().get(1).getDestination()).isEqualTo("BNE");
+        assertThat(result.getPairs().get(1).getDistanceKm()).isCloseTo(753.34, within(0.01));
+    }
+
+    /**
+     * Tests that the parallel path, used above the threshold, produces the same matrix as the sequential one.
+     */
+    @Test
+    void getDistanceMatrix_whenAboveParallelThreshold_matchesSequentialResult() {
+        // Given
+        List<String> codes = List.of("SYD", "MEL", "BNE");
+        AirportDistanceService sequential = new AirportDistanceService(airportService, Integer.MAX_VALUE, 100);
+
+        // When & Then
+        assertThat(airportDistanceService.getDistanceMatrix(request(codes, codes)).getDistances())
+                .isDeepEqualTo(sequential.getDistanceMatrix(request(codes, codes)).getDistances());
+    }
+
+    /**
+     * Tests that unknown airports and airports without coordinates are reported together.
+     */
+    @Test
+    void getDistanceMatrix_whenCodesAreUnknown_throwsBadRequest() {
+        assertThatThrownBy(() -> airportDistanceService.getDistanceMatrix(request(List.of("SYD", "ZZZ"), List.of("XXX"))))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("400")
+                .hasMessageContaining("[ZZZ, XXX]");
+    }
+
+    /**
+     * Tests that requests above the configured number of pairs are rejected.
+     */
+    @Test
+    void getDistanceMatrix_whenTooManyPairs_throwsBadRequest() {
+        List<String> codes = Collections.nCopies(11, "SYD");
+
+        assertThatThrownBy(() -> airportDistanceService.getDistanceMatrix(request(codes, codes)))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("at most 100");
+    }
+
+    private static DistanceMatrixRequest request(List<String> origins, List<String> destinations) {
+        return DistanceMatrixRequest.builder().origins(origins).destinations(destinations).build();
+    }
+
+    private static AirportDto airport(String code, double latitude, double longitude) {
+        return AirportDto.builder().airportCode(code).latitude(latitude).longitude(longitude).build();
+    }
+}
@@ -0,0 +1,96 @@
+package com.qantas.challenge.service;
+
+import com.qantas.challenge.dto.AirportDto;
+import com.qantas.challenge.dto.DataQualityReport;
+import com.qantas.challenge.dto.source.*;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark for ingesting 1,000,000 records from the external data source.
+ * It compares the former sequential transformation, which neither de-duplicated nor reported, with the parallel
+ * ingestion pipeline. The feed contains incomplete records, duplicated codes and codes needing normalization.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class AirportIngestionBenchmarkTest {
+
+    private static final int RECORDS = 1_000_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    @Test
+    void ingest_1000000Records() {
+        // Given
+        List<QantasApiAirport> feed = createFeed();
+        AirportService airportService = new AirportService(null, null, null, null, null);
+        AirportIngestionPipeline pipeline = new AirportIngestionPipeline(airportService::transformToDto);
+
+        // When
+        double sequentialMillis = measure(() -> feed.stream()
+                .map(airportService::transformToDto)
+                .filter(Objects::nonNull)
+                .toList());
+        double pipelineMillis = measure(() -> pipeline.ingest(feed));
+
+        // Then
+        DataQualityReport report = pipeline.ingest(feed).report();
+        System.out.printf("Ingestion of %,d records (%d cores): sequential transform %.1f ms, parallel pipeline with de-duplication and report %.1f ms%n",
+                RECORDS, Runtime.getRuntime().availableProcessors(), sequentialMillis, pipelineMillis);
+        System.out.printf("  accepted %,d, rejected %,d, duplicates %,d, normalized %,d%n",
+                report.getAccepted(), report.getRejected(), report.getDuplicates(), report.getNormalized());
+        assertThat(report.getAccepted() + report.getRejected() + report.getDuplicates()).isEqualTo(RECORDS);
+    }
+
+    private static List<QantasApiAirport> createFeed() {
+        Random random = new Random(42);
+        List<QantasApiAirport> feed = new ArrayList<>(RECORDS);
+        for (int i = 0; i < RECORDS; i++) {
+            // Every tenth record repeats an earlier code, and every twentieth is missing its city.
+            int id = i % 10 == 9 ? random.nextInt(i) : i;
+            String code = "A" + Integer.toString(id, 36).toUpperCase();
+            QantasApiAirport airport = new QantasApiAirport();
+            airport.setAirportCode(i % 7 == 0 ? " " + code.toLowerCase() : code);
+            airport.setAirportName("Airport " + id);
+            Location location = new Location();
+            location.setLatitude(random.nextDouble() * 180 - 90);
+            location.setLongitude(random.nextDouble() * 360 - 180);
+            airport.setLocation(location);
+            if (i % 20 != 19) {
+                City city = new City();
+                city.setCityCode(code);
+                city.setCityName("City " + id);
+                city.setTimeZoneName("UTC");
+                airport.setCity(city);
+            }
+            Country country = new Country();
+            country.setCountryCode("AU");
+            country.setCountryName("Australia");
+            airport.setCountry(country);
+            Region region = new Region();
+            region.setRegionCode("AU");
+            region.setRegionName("Australia");
+            airport.setRegion(region);
+            feed.add(airport);
+        }
+        return feed;
+    }
+
+    private static double measure(Runnable task) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - start) / 1e6 / MEASURED_ROUNDS;
+    }
+}
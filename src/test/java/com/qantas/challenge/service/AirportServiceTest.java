@@ -1,15 +1,32 @@
 package com.qantas.challenge.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qantas.challenge.client.PeerSnapshotClient;
 import com.qantas.challenge.client.QantasApiClient;
+import com.qantas.challenge.config.ClusterProperties;
+import com.qantas.challenge.config.SupplementaryDataProperties;
 import com.qantas.challenge.dto.AirportDto;
+import com.qantas.challenge.dto.DataQualityIssue;
+import com.qantas.challenge.dto.DataQualityReport;
 import com.qantas.challenge.dto.source.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * Unit tests for the AirportService.
@@ -22,12 +39,22 @@ class AirportServiceTest {
     @Mock
     private QantasApiClient qantasApiClient;
 
+    @Mock
+    private PeerSnapshotClient peerSnapshotClient;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ClusterProperties clusterProperties;
+
     private AirportService airportService;
 
     @BeforeEach
     void setUp() {
         // Create a new service instance for each test to ensure isolation.
-        airportService = new AirportService(qantasApiClient);
+        clusterProperties = new ClusterProperties();
+        SupplementaryDataService supplementaryDataService = new SupplementaryDataService(new SupplementaryDataProperties(), new ObjectMapper());
+        airportService = new AirportService(qantasApiClient, peerSnapshotClient, clusterProperties, supplementaryDataService, eventPublisher);
     }
 
     /**
@@ -153,6 +180,191 @@ class AirportServiceTest {
         assertThat(result).isNull();
     }
 
+    /**
+     * Tests that a standalone replica loads its cache from the external API and assigns it a version.
+     */
+    @Test
+    void loadAirportsIntoCache_whenStandalone_fetchesFromExternalApi() {
+        // Given
+        given(qantasApiClient.fetchAirports()).willReturn(List.of(createBaseAirport("SYD", "Sydney")));
+
+        // When
+        airportService.loadAirportsIntoCache();
+
+        // Then
+        assertThat(airportService.getSnapshot().getAirports()).extracting(AirportDto::getAirportCode).containsExactly("SYD");
+        assertThat(airportService.getSnapshot().getVersion()).isNotEqualTo(AirportSnapshot.EMPTY.getVersion());
+        verify(peerSnapshotClient, never()).fetchSnapshot(any(), any());
+    }
+
+    /**
+     * Tests that in cluster mode a follower takes the leader's snapshot, including its version,
+     * without calling the external API.
+     */
+    @Test
+    void loadAirportsIntoCache_whenFollower_usesLeaderSnapshot() {
+        // Given: this replica is not the lowest URL, so http://localhost:8080 is the leader.
+        configureCluster("http://localhost:8081", "http://localhost:8080");
+        AirportSnapshot leaderSnapshot = AirportSnapshot.of("abc", List.of(AirportDto.builder().airportCode("MEL").build()));
+        given(peerSnapshotClient.fetchSnapshot(any(), any())).willReturn(leaderSnapshot);
+
+        // When
+        airportService.loadAirportsIntoCache();
+
+        // Then
+        assertThat(airportService.getSnapshot()).isSameAs(leaderSnapshot);
+        verify(peerSnapshotClient).fetchSnapshot("http://localhost:8080", AirportSnapshot.EMPTY);
+        verify(qantasApiClient, never()).fetchAirports();
+    }
+
+    /**
+     * Tests that a follower starting together with its leader keeps retrying while the leader is still loading,
+     * instead of fetching from the external API itself.
+     */
+    @Test
+    void loadAirportsIntoCache_whenLeaderIsStillLoading_retriesLeader() {
+        // Given: the leader is unavailable for the first two attempts.
+        configureCluster("http://localhost:8081", "http://localhost:8080");
+        clusterProperties.setLeaderWait(Duration.ofSeconds(10));
+        AirportSnapshot leaderSnapshot = AirportSnapshot.of("abc", List.of(AirportDto.builder().airportCode("MEL").build()));
+        given(peerSnapshotClient.fetchSnapshot(any(), any())).willReturn(null, null, leaderSnapshot);
+
+        // When
+        airportService.loadAirportsIntoCache();
+
+        // Then
+        assertThat(airportService.getSnapshot()).isSameAs(leaderSnapshot);
+        verify(peerSnapshotClient, times(3)).fetchSnapshot("http://localhost:8080", AirportSnapshot.EMPTY);
+        verify(qantasApiClient, never()).fetchAirports();
+    }
+
+    /**
+     * Tests that a follower falls back to the external API when the leader stays unavailable for the whole wait.
+     */
+    @Test
+    void loadAirportsIntoCache_whenLeaderUnavailable_fallsBackToExternalApi() {
+        // Given
+        configureCluster("http://localhost:8081", "http://localhost:8080");
+        clusterProperties.setLeaderWait(Duration.ofMillis(500));
+        given(peerSnapshotClient.fetchSnapshot(any(), any())).willReturn(null);
+        given(qantasApiClient.fetchAirports()).willReturn(List.of(createBaseAirport("SYD", "Sydney")));
+
+        // When
+        airportService.loadAirportsIntoCache();
+
+        // Then
+        assertThat(airportService.getSnapshot().getAirports()).extracting(AirportDto::getAirportCode).containsExactly("SYD");
+        verify(peerSnapshotClient, atLeast(2)).fetchSnapshot(any(), any());
+    }
+
+    /**
+     * Tests that the elected leader never pulls from a peer, even when peers are configured.
+     */
+    @Test
+    void syncWithLeader_whenLeader_doesNothing() {
+        // Given: this replica has the lowest URL.
+        configureCluster("http://localhost:8080", "http://localhost:8081");
+
+        // When
+        airportService.syncWithLeader();
+
+        // Then
+        verify(peerSnapshotClient, never()).fetchSnapshot(any(), any());
+    }
+
+    /**
+     * Tests that a follower announces a snapshot pulled from its leader, so that warm-up can run once a cache that
+     * was empty at startup has been filled.
+     */
+    @Test
+    void syncWithLeader_whenSnapshotChanged_publishesCacheLoadedEvent() {
+        // Given
+        configureCluster("http://localhost:8081", "http://localhost:8080");
+        AirportSnapshot leaderSnapshot = AirportSnapshot.of("abc", List.of(AirportDto.builder().airportCode("MEL").build()));
+        given(peerSnapshotClient.fetchSnapshot(any(), any())).willReturn(leaderSnapshot);
+
+        // When
+        airportService.syncWithLeader();
+
+        // Then
+        assertThat(airportService.getSnapshot()).isSameAs(leaderSnapshot);
+        verify(eventPublisher).publishEvent(new AirportCacheLoadedEvent(leaderSnapshot));
+    }
+
+    /**
+     * Tests that the ingestion rejects incomplete records with a reason, normalizes codes, and keeps the most
+     * complete record among duplicates, falling back to the earliest one in the feed.
+     */
+    @Test
+    void loadAirportsIntoCache_deduplicatesAndReportsDataQuality() {
+        // Given
+        QantasApiAirport sydney = createBaseAirport(" syd ", "Sydney");
+        QantasApiAirport sydneyWithTimeZone = createBaseAirport("SYD", "Sydney Kingsford Smith");
+        sydneyWithTimeZone.getCity().setTimeZoneName("Australia/Sydney");
+        QantasApiAirport melbourne = createBaseAirport("MEL", "Melbourne");
+        QantasApiAirport melbourneAgain = createBaseAirport("MEL", "Melbourne Tullamarine");
+        QantasApiAirport noCity = createBaseAirport("XXX", "No City");
+        noCity.setCity(null);
+        QantasApiAirport noCode = createBaseAirport(" ", "No Code");
+        given(qantasApiClient.fetchAirports()).willReturn(List.of(sydney, melbourne, sydneyWithTimeZone, noCity, melbourneAgain, noCode));
+
+        // When
+        airportService.loadAirportsIntoCache();
+
+        // Then
+        assertThat(airportService.getSnapshot().getAirports())
+                .extracting(AirportDto::getAirportCode, AirportDto::getAirportName)
+                .containsExactly(tuple("MEL", "Melbourne"), tuple("SYD", "Sydney Kingsford Smith"));
+        DataQualityReport report = airportService.getDataQualityReport().orElseThrow();
+        assertThat(report.getReceived()).isEqualTo(6);
+        assertThat(report.getAccepted()).isEqualTo(2);
+        assertThat(report.getRejected()).isEqualTo(2);
+        assertThat(report.getRejectedByReason()).containsEntry("Missing city", 1).containsEntry("Missing airport code", 1);
+        assertThat(report.getDuplicates()).isEqualTo(2);
+        assertThat(report.getDuplicateSamples()).extracting(DataQualityIssue::getPosition).containsExactly(0, 4);
+        assertThat(report.getDuplicateSamples().get(0).getDetail()).isEqualTo("Duplicate of the record at position 2");
+        assertThat(report.getNormalized()).isEqualTo(1);
+        assertThat(report.getNormalizedSamples().get(0).getDetail()).isEqualTo("Normalized airportCode");
+    }
+
+    /**
+     * Tests that single airports are looked up by code case-insensitively.
+     */
+    @Test
+    void getAirportByCode_matchesCaseInsensitively() {
+        // Given
+        given(qantasApiClient.fetchAirports()).willReturn(List.of(createBaseAirport("SYD", "Sydney")));
+        airportService.loadAirportsIntoCache();
+
+        // When & Then
+        assertThat(airportService.getAirportByCode("syd")).map(AirportDto::getAirportName).contains("Sydney");
+        assertThat(airportService.getAirportByCode("MEL")).isEmpty();
+    }
+
+    /**
+     * Tests that two snapshots built from the same data report the same version on every replica.
+     */
+    @Test
+    void snapshotVersion_isDerivedFromContent() {
+        List<AirportDto> airports = List.of(AirportDto.builder().airportCode("SYD").latitude(-33.946).build());
+
+        assertThat(AirportSnapshot.of(airports).getVersion())
+                .isEqualTo(AirportSnapshot.of(List.of(AirportDto.builder().airportCode("SYD").latitude(-33.946).build())).getVersion())
+                .isNotEqualTo(AirportSnapshot.of(List.of(AirportDto.builder().airportCode("MEL").build())).getVersion());
+        // "Aa" and "BB" have the same hash code, so a version derived from hash codes could not tell them apart.
+        assertThat(AirportSnapshot.of(List.of(AirportDto.builder().airportCode("Aa").build())).getVersion())
+                .isNotEqualTo(AirportSnapshot.of(List.of(AirportDto.builder().airportCode("BB").build())).getVersion());
+    }
+
+    /**
+     * Helper method to enable cluster mode with this replica and a single peer.
+     */
+    private void configureCluster(String selfUrl, String peerUrl) {
+        clusterProperties.setEnabled(true);
+        clusterProperties.setSelfUrl(selfUrl);
+        clusterProperties.setPeers(List.of(peerUrl));
+    }
+
     /**
      * Helper method to create a base, valid airport object for testing.
      */
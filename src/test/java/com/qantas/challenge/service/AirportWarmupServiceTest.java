@@ -0,0 +1,125 @@
+package com.qantas.challenge.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qantas.challenge.config.WarmupProperties;
+import com.qantas.challenge.dto.AirportDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for the AirportWarmupService.
+ * Warm-up runs against a real snapshot here, with the query services mocked or backed by that snapshot.
+ */
+@ExtendWith(MockitoExtension.class)
+class AirportWarmupServiceTest {
+
+    @Mock
+    private AirportService airportService;
+
+    private WarmupProperties warmupProperties;
+    private AirportWarmupService airportWarmupService;
+
+    @BeforeEach
+    void setUp() {
+        warmupProperties = new WarmupProperties();
+        warmupProperties.setRounds(3);
+        airportWarmupService = new AirportWarmupService(airportService,
+                new AirportDistanceService(airportService, 10_000, 1_000_000),
+                new AirportBatchService(airportService, 100),
+                new ObjectMapper(), warmupProperties);
+    }
+
+    /**
+     * Tests that warm-up runs the configured number of rounds of representative queries and then reports completion.
+     */
+    @Test
+    void warmUp_whenCacheIsLoaded_runsRoundsAndCompletes() {
+        // Given
+        AirportSnapshot snapshot = AirportSnapshot.of(List.of(
+                AirportDto.builder().airportCode("SYD").airportName("Sydney").countryCode("AU").cityCode("SYD").latitude(-33.9).longitude(151.2).build(),
+                AirportDto.builder().airportCode("LAX").airportName("Los Angeles").countryCode("US").stateCode("CA").build()));
+        given(airportService.getSnapshot()).willReturn(snapshot);
+        given(airportService.getAirports(any(), any(), any(), any(), any())).willReturn(snapshot.getAirports());
+
+        // When
+        airportWarmupService.warmUp();
+
+        // Then
+        assertThat(airportWarmupService.isComplete()).isTrue();
+        assertThat(airportWarmupService.getCompletedRounds()).isEqualTo(3);
+        verify(airportService, atLeast(3)).getAirports(null, null, null, null, null);
+        verify(airportService, atLeast(3)).getAirportByCode(any());
+    }
+
+    /**
+     * Tests that warm-up does not report completion while there is no data to warm up with.
+     * It is started again once the cache has been loaded, see the test below.
+     */
+    @Test
+    void warmUp_whenCacheIsEmpty_doesNotComplete() {
+        // Given
+        given(airportService.getSnapshot()).willReturn(AirportSnapshot.EMPTY);
+
+        // When
+        airportWarmupService.warmUp();
+
+        // Then
+        assertThat(airportWarmupService.isComplete()).isFalse();
+        verify(airportService, never()).getAirports(any(), any(), any(), any(), any());
+    }
+
+    /**
+     * Tests that a replica whose cache was empty when the application became ready, such as a follower whose leader
+     * and external API were both down, warms up and becomes ready once its cache has been loaded.
+     */
+    @Test
+    void onCacheLoaded_whenCacheWasEmptyAtReady_warmsUpAndCompletes() throws InterruptedException {
+        // Given
+        AtomicReference<AirportSnapshot> cache = new AtomicReference<>(AirportSnapshot.EMPTY);
+        given(airportService.getSnapshot()).willAnswer(invocation -> cache.get());
+        airportWarmupService.onApplicationReady();
+
+        // When
+        AirportSnapshot snapshot = AirportSnapshot.of(List.of(
+                AirportDto.builder().airportCode("SYD").airportName("Sydney").countryCode("AU").build()));
+        cache.set(snapshot);
+        airportWarmupService.onCacheLoaded(new AirportCacheLoadedEvent(snapshot));
+
+        // Then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!airportWarmupService.isComplete() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(airportWarmupService.isComplete()).isTrue();
+        assertThat(airportWarmupService.getCompletedRounds()).isEqualTo(3);
+    }
+
+    /**
+     * Tests that a disabled warm-up is complete as soon as the application is ready.
+     */
+    @Test
+    void onApplicationReady_whenDisabled_completesImmediately() {
+        // Given
+        warmupProperties.setEnabled(false);
+
+        // When
+        airportWarmupService.onApplicationReady();
+
+        // Then
+        assertThat(airportWarmupService.isComplete()).isTrue();
+    }
+}
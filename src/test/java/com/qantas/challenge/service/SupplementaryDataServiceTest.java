@@ -0,0 +1,158 @@
+package com.qantas.challenge.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qantas.challenge.config.SupplementaryDataProperties;
+import com.qantas.challenge.dto.AirportDto;
+import com.qantas.challenge.dto.DataQualityIssue;
+import com.qantas.challenge.dto.DataQualityReport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Unit tests for the SupplementaryDataService and the memory-mapped SupplementaryFileReader it uses.
+ */
+class SupplementaryDataServiceTest {
+
+    private static final String CSV = """
+            airportCode,airportName,latitude,longitude,countryCode,timeZoneName,alternateNames,unknownColumn
+            syd,"Sydney ""Kingsford Smith"" Airport",-33.9461,151.1772,AU,Australia/Sydney,Mascot|KSA,x\r
+            MEL,Melbourne,not-a-number,144.8433,AU,,,
+
+            HBA,"Hobart, Tasmania",-42.8361,147.5103,AU,Australia/Hobart,,
+            XXX,No Coordinates,,,AU,,,
+            """;
+
+    @TempDir
+    private Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Tests that override fields take the file's value, other fields only fill gaps, alternate names accumulate,
+     * complete records for unknown airports are added, and every rejected line is reported with its reason.
+     */
+    @Test
+    void merge_appliesFieldLevelPrecedence() throws IOException {
+        // Given
+        Path csv = Files.writeString(tempDir.resolve("airports.csv"), CSV);
+        Path ndjson = Files.writeString(tempDir.resolve("names.ndjson"), """
+                {"airportCode":"SYD","airportName":"Ignored","alternateNames":["KSA","Sydney Intl"],"extra":1}
+                {"airportCode":"MEL","cityName":
+                """);
+        SupplementaryDataService service = createService(DataSize.ofMegabytes(1), Set.of("latitude", "longitude"), csv, ndjson);
+        AirportDto sydney = AirportDto.builder().airportCode("SYD").airportName("Sydney").latitude(-33.9).longitude(151.2).build();
+        AirportDto perth = AirportDto.builder().airportCode("PER").airportName("Perth").build();
+        DataQualityReport report = new DataQualityReport();
+
+        // When
+        List<AirportDto> merged = service.merge(new ArrayList<>(List.of(sydney, perth)), report);
+
+        // Then
+        assertThat(merged)
+                .extracting(AirportDto::getAirportCode, AirportDto::getAirportName, AirportDto::getLatitude, AirportDto::getTimeZoneName)
+                .containsExactly(
+                        tuple("SYD", "Sydney", -33.9461, "Australia/Sydney"),
+                        tuple("PER", "Perth", null, null),
+                        tuple("HBA", "Hobart, Tasmania", -42.8361, "Australia/Hobart"));
+        assertThat(sydney.getAlternateNames()).containsExactly("Mascot", "KSA", "Sydney Intl");
+        assertThat(report.getSupplementaryReceived()).isEqualTo(6);
+        assertThat(report.getSupplementaryMerged()).isEqualTo(2);
+        assertThat(report.getSupplementaryAdded()).isEqualTo(1);
+        assertThat(report.getSupplementaryRejected()).isEqualTo(3);
+        assertThat(report.getSupplementaryRejectedByReason()).containsOnly(
+                entry(SupplementaryFileReader.MALFORMED_LINE, 2),
+                entry(SupplementaryDataService.INCOMPLETE_NEW_AIRPORT, 1));
+        assertThat(report.getSupplementaryRejectedSamples())
+                .extracting(DataQualityIssue::getPosition, DataQualityIssue::getAirportCode)
+                .containsExactly(tuple(3, null), tuple(6, "XXX"), tuple(2, null));
+        assertThat(report.getSupplementaryRejectedSamples().get(0).getDetail())
+                .startsWith("airports.csv: " + SupplementaryFileReader.MALFORMED_LINE)
+                .contains("not-a-number");
+        assertThat(report.getSupplementaryRejectedSamples().get(2).getDetail())
+                .startsWith("names.ndjson: " + SupplementaryFileReader.MALFORMED_LINE);
+    }
+
+    /**
+     * Tests that splitting a file into chunks far smaller than its lines yields the same records as reading it whole.
+     */
+    @Test
+    void read_whenChunksSplitLines_returnsEveryRecordOnceInFileOrder() throws IOException {
+        // Given
+        StringBuilder content = new StringBuilder("airportCode,airportName,latitude,longitude,countryCode\n");
+        for (int i = 0; i < 500; i++) {
+            content.append("A").append(i).append(",Airport ").append(i).append(',').append(i % 90).append(",0,AU\n");
+        }
+        Path csv = Files.writeString(tempDir.resolve("many.csv"), content.toString());
+
+        // When
+        SupplementaryFileReader.Result whole = new SupplementaryFileReader(objectMapper, 1 << 20).read(csv);
+        SupplementaryFileReader.Result chunked = new SupplementaryFileReader(objectMapper, 7).read(csv);
+
+        // Then
+        assertThat(whole.records()).hasSize(500);
+        assertThat(chunked.records()).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(whole.records());
+        assertThat(chunked.malformed()).isZero();
+        assertThat(chunked.lineNumbers()).containsExactly(whole.lineNumbers());
+        assertThat(chunked.lineNumbers()[499]).isEqualTo(501);
+    }
+
+    /**
+     * Tests that a missing file is skipped rather than failing the ingestion of the feed.
+     */
+    @Test
+    void merge_whenFileIsMissing_keepsFeedAirports() {
+        // Given
+        SupplementaryDataService service = createService(DataSize.ofMegabytes(1), Set.of(), tempDir.resolve("missing.csv"));
+        AirportDto sydney = AirportDto.builder().airportCode("SYD").airportName("Sydney").build();
+
+        // When
+        List<AirportDto> merged = service.merge(List.of(sydney), new DataQualityReport());
+
+        // Then
+        assertThat(merged).containsExactly(sydney);
+    }
+
+    /**
+     * Tests that a misspelled override field is reported at startup instead of being silently ignored.
+     */
+    @Test
+    void constructor_whenOverrideFieldIsUnknown_throwsException() {
+        assertThatThrownBy(() -> createService(DataSize.ofMegabytes(1), Set.of("lattitude")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("lattitude");
+    }
+
+    /**
+     * Tests that a chunk size too large for the int offsets of a mapping is reported at startup, rather than
+     * silently losing the records of the oversized chunks.
+     */
+    @Test
+    void constructor_whenChunkSizeIsTooLarge_throwsException() {
+        assertThatThrownBy(() -> createService(DataSize.ofGigabytes(2), Set.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("chunk size");
+    }
+
+    private SupplementaryDataService createService(DataSize chunkSize, Set<String> overrideFields, Path... files) {
+        SupplementaryDataProperties properties = new SupplementaryDataProperties();
+        properties.setChunkSize(chunkSize);
+        properties.getOverrideFields().addAll(overrideFields);
+        for (Path file : files) {
+            properties.getFiles().add(file.toString());
+        }
+        return new SupplementaryDataService(properties, objectMapper);
+    }
+}
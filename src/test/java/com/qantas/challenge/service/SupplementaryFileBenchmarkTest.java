@@ -0,0 +1,119 @@
+package com.qantas.challenge.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark for reading supplementary files of several hundred megabytes.
+ * It compares a plain buffered line scan, which only splits lines and parses nothing, with the memory-mapped
+ * reader run as a single chunk and split into 16 MB chunks parsed in parallel. The file size is set with
+ * {@code -Dbenchmark.supplementary.mb} and defaults to 256 MB per format.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class SupplementaryFileBenchmarkTest {
+
+    private static final long TARGET_BYTES = Long.getLong("benchmark.supplementary.mb", 256) * 1024 * 1024;
+    private static final int MEASURED_ROUNDS = 3;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void read_csv() throws IOException {
+        Path file = tempDir.resolve("airports.csv");
+        long records = writeFile(file, "airportCode,airportName,latitude,longitude,cityCode,cityName,timeZoneName,countryCode,countryName,alternateNames",
+                (code, random) -> String.format(Locale.ROOT, "%s,\"Airport %s, Somewhere\",%.6f,%.6f,%s,City %s,Australia/Sydney,AU,Australia,Alt %s|Other %s",
+                        code, code, random.nextDouble() * 180 - 90, random.nextDouble() * 360 - 180, code, code, code, code));
+        benchmark(file, records);
+    }
+
+    @Test
+    void read_ndjson() throws IOException {
+        Path file = tempDir.resolve("airports.ndjson");
+        long records = writeFile(file, null,
+                (code, random) -> String.format(Locale.ROOT, "{\"airportCode\":\"%s\",\"airportName\":\"Airport %s\",\"latitude\":%.6f,\"longitude\":%.6f,"
+                        + "\"cityCode\":\"%s\",\"timeZoneName\":\"Australia/Sydney\",\"countryCode\":\"AU\",\"alternateNames\":[\"Alt %s\"]}",
+                        code, code, random.nextDouble() * 180 - 90, random.nextDouble() * 360 - 180, code, code));
+        benchmark(file, records);
+    }
+
+    private void benchmark(Path file, long records) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        SupplementaryFileReader singleChunk = new SupplementaryFileReader(objectMapper, SupplementaryFileReader.MAX_CHUNK_SIZE);
+        SupplementaryFileReader chunked = new SupplementaryFileReader(objectMapper, 16L * 1024 * 1024);
+
+        double scanMillis = measure(() -> {
+            try (BufferedReader reader = Files.newBufferedReader(file)) {
+                return (int) reader.lines().count();
+            }
+        });
+        double singleChunkMillis = measure(() -> singleChunk.read(file).records().size());
+        double chunkedMillis = measure(() -> chunked.read(file).records().size());
+
+        SupplementaryFileReader.Result result = chunked.read(file);
+        double megabytes = Files.size(file) / (1024.0 * 1024.0);
+        System.out.printf("Reading %s, %.0f MB, %,d records (%d cores): buffered line scan %.0f ms (%.0f MB/s), "
+                        + "mapped single chunk %.0f ms (%.0f MB/s), mapped 16 MB chunks in parallel %.0f ms (%.0f MB/s)%n",
+                file.getFileName(), megabytes, records, Runtime.getRuntime().availableProcessors(),
+                scanMillis, megabytes * 1000 / scanMillis, singleChunkMillis, megabytes * 1000 / singleChunkMillis,
+                chunkedMillis, megabytes * 1000 / chunkedMillis);
+        assertThat(result.records()).hasSize((int) records);
+        assertThat(result.malformed()).isZero();
+    }
+
+    private static long writeFile(Path file, String header, RecordFormatter formatter) throws IOException {
+        Random random = new Random(42);
+        long records = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            if (header != null) {
+                writer.write(header);
+                writer.newLine();
+            }
+            long written = 0;
+            while (written < TARGET_BYTES) {
+                String line = formatter.format("A" + Long.toString(records, 36).toUpperCase(), random);
+                writer.write(line);
+                writer.newLine();
+                written += line.length() + 1;
+                records++;
+            }
+        }
+        return records;
+    }
+
+    private static double measure(Callable<Integer> task) {
+        try {
+            // One untimed round warms up the code and the page cache.
+            task.call();
+            long start = System.nanoTime();
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                task.call();
+            }
+            return (System.nanoTime() - start) / 1e6 / MEASURED_ROUNDS;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RecordFormatter {
+        String format(String code, Random random);
+    }
+}